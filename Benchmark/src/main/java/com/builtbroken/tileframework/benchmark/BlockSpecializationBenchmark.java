@@ -0,0 +1,248 @@
+package com.builtbroken.tileframework.benchmark;
+
+import com.builtbroken.mc.lib.transform.region.Cube;
+import com.builtbroken.tileframework.BlockSpecializer;
+import com.builtbroken.tileframework.BlockTileA;
+import com.builtbroken.tileframework.TileA;
+import com.builtbroken.tileframework.TileData;
+import com.builtbroken.tileframework.TileDescriptor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares block hooks of the shared {@link BlockTileA} class against blocks generated by
+ * {@link BlockSpecializer}. Four tile types are placed in a row so the shared hooks see
+ * several tile classes, the same as a real world with many tile types in it.
+ * <p/>
+ * Light and redstone are read from a {@link StandInBlockAccess}. Collision needs a full World,
+ * so the same blocks are also placed in a {@link HeadlessWorld} for it.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BlockSpecializationBenchmark
+{
+    private static final int TYPES = 4;
+
+    @Param({"false", "true"})
+    public boolean specialized;
+
+    private StandInBlockAccess access;
+    private HeadlessWorld world;
+    private BlockTileA[] blocks;
+
+    @Setup
+    public void setup()
+    {
+        access = new StandInBlockAccess(TYPES);
+        world = new HeadlessWorld();
+        blocks = new BlockTileA[TYPES];
+        for (int i = 0; i < TYPES; i++)
+        {
+            TypedTileData data = new TypedTileData(i);
+            data.registerTiles();
+            TileDescriptor descriptor = new TileDescriptor(data);
+            blocks[i] = specialized ? BlockSpecializer.create(data, descriptor) : new BlockTileA(data, descriptor);
+            access.setBlock(i, 0, 0, blocks[i], 0, data.staticTile.newTile());
+            HeadlessWorld.registerBlock(blocks[i], data.name);
+            world.setBlock(i, ScenarioRunner.BASE_Y, 0, blocks[i], 0, 2);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TYPES)
+    public void lightValue(Blackhole blackhole)
+    {
+        for (int i = 0; i < TYPES; i++)
+        {
+            blackhole.consume(blocks[i].getLightValue(access, i, 0, 0));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TYPES)
+    public void redstone(Blackhole blackhole)
+    {
+        for (int i = 0; i < TYPES; i++)
+        {
+            blackhole.consume(blocks[i].isProvidingWeakPower(access, i, 0, 0, 1));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TYPES)
+    public void collision(Blackhole blackhole)
+    {
+        for (int i = 0; i < TYPES; i++)
+        {
+            blackhole.consume(blocks[i].getCollisionBoundingBoxFromPool(world, i, ScenarioRunner.BASE_Y, 0));
+        }
+    }
+
+    public static class TypedTileData extends TileData
+    {
+        public TypedTileData(int type)
+        {
+            super(TileFactoryBenchmark.BenchmarkMod.INSTANCE);
+            this.name = "typedTile" + type;
+            this.bounds = new Cube(0, 0, 0, 1, 1, 1);
+            this.canEmmitRedstone = true;
+            switch (type)
+            {
+                case 0:
+                    staticTile = new TileType0(this);
+                    break;
+                case 1:
+                    staticTile = new TileType1(this);
+                    break;
+                case 2:
+                    staticTile = new TileType2(this);
+                    break;
+                default:
+                    staticTile = new TileType3(this);
+            }
+        }
+
+        @Override
+        public void registerTiles()
+        {
+            registerTile(staticTile.getClass());
+        }
+    }
+
+    public static class TileType0 extends TileA
+    {
+        private static final Cube BOUNDS = new Cube(0, 0, 0, 1, 0.25, 1);
+
+        public TileType0()
+        {
+        }
+
+        public TileType0(TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        public int getLightValue()
+        {
+            return 1;
+        }
+
+        @Override
+        public int getStrongRedstonePower(int side)
+        {
+            return side;
+        }
+
+        @Override
+        public Cube getCollisionBounds()
+        {
+            return BOUNDS;
+        }
+    }
+
+    public static class TileType1 extends TileA
+    {
+        private static final Cube BOUNDS = new Cube(0, 0, 0, 1, 0.5, 1);
+
+        public TileType1()
+        {
+        }
+
+        public TileType1(TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        public int getLightValue()
+        {
+            return 5;
+        }
+
+        @Override
+        public int getStrongRedstonePower(int side)
+        {
+            return 15 - side;
+        }
+
+        @Override
+        public Cube getCollisionBounds()
+        {
+            return BOUNDS;
+        }
+    }
+
+    public static class TileType2 extends TileA
+    {
+        private static final Cube BOUNDS = new Cube(0, 0, 0, 1, 0.75, 1);
+
+        public TileType2()
+        {
+        }
+
+        public TileType2(TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        public int getLightValue()
+        {
+            return 10;
+        }
+
+        @Override
+        public int getStrongRedstonePower(int side)
+        {
+            return side * 2;
+        }
+
+        @Override
+        public Cube getCollisionBounds()
+        {
+            return BOUNDS;
+        }
+    }
+
+    public static class TileType3 extends TileA
+    {
+        private static final Cube BOUNDS = new Cube(0, 0, 0, 1, 1, 1);
+
+        public TileType3()
+        {
+        }
+
+        public TileType3(TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        public int getLightValue()
+        {
+            return 15;
+        }
+
+        @Override
+        public int getStrongRedstonePower(int side)
+        {
+            return 15;
+        }
+
+        @Override
+        public Cube getCollisionBounds()
+        {
+            return BOUNDS;
+        }
+    }
+}
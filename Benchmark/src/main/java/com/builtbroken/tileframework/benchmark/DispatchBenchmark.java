@@ -0,0 +1,542 @@
+package com.builtbroken.tileframework.benchmark;
+
+import com.builtbroken.mc.lib.transform.region.Cube;
+import com.builtbroken.systemd.BlockTileD;
+import com.builtbroken.systemd.TileD;
+import com.builtbroken.tileframework.BlockTileA;
+import com.builtbroken.tileframework.TileA;
+import com.builtbroken.tileframework.TileData;
+import com.builtbroken.tileframework.api.tile.INeighborBlock;
+import com.builtbroken.tileframework.api.tile.IRedstone;
+import com.builtbroken.tileframework.api.tile.ITileCollide;
+import com.builtbroken.tileframework.api.tile.ITileTextured;
+import net.minecraft.block.Block;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.IIcon;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of the hot block hooks between System A, where {@link BlockTileA} injects the
+ * position into its static tile before calling the tile, and System D, where {@link BlockTileD}
+ * checks the tile for the interface of the hook before calling it.
+ * <p/>
+ * A layer of one chunk is filled with four tile types in a repeating pattern so the hooks see
+ * several tile classes, the same as in game. Results are per hook call. Run with {@code -prof gc}
+ * to see the allocation of each hook next to its latency.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DispatchBenchmark
+{
+    /** Number of tile types placed */
+    public static final int TYPES = 4;
+    /** Number of blocks placed, one chunk layer */
+    public static final int BLOCKS = 256;
+    /** Layer the blocks are placed in */
+    public static final int Y = 64;
+
+    @Param({"A", "D"})
+    public String system;
+
+    private HeadlessWorld world;
+    private Block[] blocks;
+
+    @Setup
+    public void setup()
+    {
+        blocks = new Block[TYPES];
+        for (int i = 0; i < TYPES; i++)
+        {
+            blocks[i] = "A".equals(system) ? createBlockA(i) : createBlockD(i);
+        }
+        world = new HeadlessWorld();
+        for (int i = 0; i < BLOCKS; i++)
+        {
+            world.setBlock(i & 15, Y, i >> 4, blocks[i % TYPES], 0, 2);
+        }
+    }
+
+    private static Block createBlockA(int type)
+    {
+        DispatchTileDataA data = new DispatchTileDataA(type);
+        data.registerTiles();
+        Block block = new BlockTileA(data);
+        HeadlessWorld.registerBlock(block, data.name);
+        return block;
+    }
+
+    private static Block createBlockD(int type)
+    {
+        DispatchTileDataD data = new DispatchTileDataD(type);
+        data.registerTiles();
+        Block block = new BlockTileD(data);
+        HeadlessWorld.registerBlock(block, data.name);
+        return block;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS)
+    public void collision(Blackhole blackhole)
+    {
+        for (int i = 0; i < BLOCKS; i++)
+        {
+            blackhole.consume(blocks[i % TYPES].getCollisionBoundingBoxFromPool(world, i & 15, Y, i >> 4));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS)
+    public void light(Blackhole blackhole)
+    {
+        for (int i = 0; i < BLOCKS; i++)
+        {
+            blackhole.consume(blocks[i % TYPES].getLightValue(world, i & 15, Y, i >> 4));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS)
+    public void redstone(Blackhole blackhole)
+    {
+        for (int i = 0; i < BLOCKS; i++)
+        {
+            blackhole.consume(blocks[i % TYPES].isProvidingWeakPower(world, i & 15, Y, i >> 4, 1));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS)
+    public void neighborChange()
+    {
+        for (int i = 0; i < BLOCKS; i++)
+        {
+            blocks[i % TYPES].onNeighborBlockChange(world, i & 15, Y, i >> 4, Blocks.stone);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS)
+    public void icon(Blackhole blackhole)
+    {
+        for (int i = 0; i < BLOCKS; i++)
+        {
+            blackhole.consume(blocks[i % TYPES].getIcon(world, i & 15, Y, i >> 4, 1));
+        }
+    }
+
+    //=========================
+    //==== System A tiles =====
+    //=========================
+
+    public static class DispatchTileDataA extends TileData
+    {
+        public DispatchTileDataA(int type)
+        {
+            super(TileFactoryBenchmark.BenchmarkMod.INSTANCE);
+            this.name = "dispatchTileA" + type;
+            this.textureName = name;
+            this.bounds = new Cube(0, 0, 0, 1, 1, 1);
+            this.canEmmitRedstone = true;
+            switch (type)
+            {
+                case 0:
+                    staticTile = new TileA0(this);
+                    break;
+                case 1:
+                    staticTile = new TileA1(this);
+                    break;
+                case 2:
+                    staticTile = new TileA2(this);
+                    break;
+                default:
+                    staticTile = new TileA3(this);
+            }
+        }
+
+        @Override
+        public void registerTiles()
+        {
+            registerTile(staticTile.getClass());
+        }
+    }
+
+    /**
+     * Shared behavior of the System A tiles, each type only changes the values returned. Every hook
+     * is overridden with the same body as {@link DispatchTileD} so both systems do the same work
+     * once the tile is reached, and only the dispatch differs.
+     */
+    public abstract static class DispatchTileA extends TileA
+    {
+        /** Counts neighbor changes so the call can't be removed */
+        public int changes;
+
+        public DispatchTileA()
+        {
+        }
+
+        public DispatchTileA(TileData data)
+        {
+            super(data);
+        }
+
+        protected abstract int level();
+
+        @Override
+        public int getLightValue()
+        {
+            return level();
+        }
+
+        @Override
+        public int getWeakRedstonePower(int side)
+        {
+            return getStrongRedstonePower(side);
+        }
+
+        @Override
+        public int getStrongRedstonePower(int side)
+        {
+            return level() ^ side;
+        }
+
+        @Override
+        public void onNeighborChanged(Block block)
+        {
+            changes++;
+        }
+
+        @Override
+        public Cube getCollisionBounds()
+        {
+            return getTileData().bounds;
+        }
+
+        @Override
+        public IIcon getIcon(int side, int meta)
+        {
+            return getTileData().icons != null ? getTileData().icons.get(getTileData().textureName) : null;
+        }
+    }
+
+    public static class TileA0 extends DispatchTileA
+    {
+        public TileA0()
+        {
+        }
+
+        public TileA0(TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        protected int level()
+        {
+            return 1;
+        }
+    }
+
+    public static class TileA1 extends DispatchTileA
+    {
+        public TileA1()
+        {
+        }
+
+        public TileA1(TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        protected int level()
+        {
+            return 5;
+        }
+    }
+
+    public static class TileA2 extends DispatchTileA
+    {
+        public TileA2()
+        {
+        }
+
+        public TileA2(TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        protected int level()
+        {
+            return 10;
+        }
+    }
+
+    public static class TileA3 extends DispatchTileA
+    {
+        public TileA3()
+        {
+        }
+
+        public TileA3(TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        protected int level()
+        {
+            return 15;
+        }
+    }
+
+    //=========================
+    //==== System D tiles =====
+    //=========================
+
+    public static class DispatchTileDataD extends com.builtbroken.systemd.TileData
+    {
+        public DispatchTileDataD(int type)
+        {
+            super(TileFactoryBenchmark.BenchmarkMod.INSTANCE);
+            this.name = "dispatchTileD" + type;
+            this.textureName = name;
+            this.bounds = new Cube(0, 0, 0, 1, 1, 1);
+            this.canEmmitRedstone = true;
+            switch (type)
+            {
+                case 0:
+                    staticTile = new TileD0(this);
+                    break;
+                case 1:
+                    staticTile = new TileD1(this);
+                    break;
+                case 2:
+                    staticTile = new TileD2(this);
+                    break;
+                default:
+                    staticTile = new TileD3(this);
+            }
+        }
+
+        @Override
+        public TileEntity createNewTileEntity(World world, int meta)
+        {
+            switch (name.charAt(name.length() - 1))
+            {
+                case '0':
+                    return new TileD0();
+                case '1':
+                    return new TileD1();
+                case '2':
+                    return new TileD2();
+                default:
+                    return new TileD3();
+            }
+        }
+
+        @Override
+        public void registerTiles()
+        {
+            registerTile(staticTile.getClass());
+        }
+    }
+
+    /** Shared behavior of the System D tiles, each type only changes the values returned, see {@link DispatchTileA} */
+    public abstract static class DispatchTileD extends TileD implements IRedstone, ITileCollide, INeighborBlock, ITileTextured
+    {
+        /** Counts neighbor changes so the call can't be removed */
+        public int changes;
+
+        public DispatchTileD()
+        {
+        }
+
+        public DispatchTileD(com.builtbroken.systemd.TileData data)
+        {
+            super(data);
+        }
+
+        protected abstract int level();
+
+        @Override
+        public int getLightValue()
+        {
+            return level();
+        }
+
+        @Override
+        public int getWeakRedstonePower(int side)
+        {
+            return getStrongRedstonePower(side);
+        }
+
+        @Override
+        public int getStrongRedstonePower(int side)
+        {
+            return level() ^ side;
+        }
+
+        @Override
+        public void onNeighborChanged(Block block)
+        {
+            changes++;
+        }
+
+        @Override
+        public void onNeighborChanged(long pos)
+        {
+            changes++;
+        }
+
+        @Override
+        public void onCollide(Entity entity)
+        {
+        }
+
+        @Override
+        public Iterable<Cube> getCollisionBoxes(Cube subtract, Entity entity)
+        {
+            return Collections.singletonList(getCollisionBounds());
+        }
+
+        @Override
+        public Cube getSelectBounds()
+        {
+            return getTileData().bounds;
+        }
+
+        @Override
+        public Cube getCollisionBounds()
+        {
+            return getTileData().bounds;
+        }
+
+        @Override
+        public IIcon getIcon(int side, int blockMetadata)
+        {
+            return getTileData().icons != null ? getTileData().icons.get(getTileData().textureName) : null;
+        }
+
+        @Override
+        public void onAdded()
+        {
+        }
+
+        @Override
+        public void onPlaced(EntityLivingBase entityLiving, ItemStack itemStack)
+        {
+        }
+
+        @Override
+        public void onPostPlaced(int metadata)
+        {
+        }
+
+        @Override
+        public void onRemove(Block block, int par6)
+        {
+        }
+
+        @Override
+        public boolean removeByPlayer(EntityPlayer player, boolean willHarvest)
+        {
+            return world().setBlockToAir(xi(), yi(), zi());
+        }
+
+        @Override
+        public boolean isSolid(int side)
+        {
+            return true;
+        }
+    }
+
+    public static class TileD0 extends DispatchTileD
+    {
+        public TileD0()
+        {
+        }
+
+        public TileD0(com.builtbroken.systemd.TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        protected int level()
+        {
+            return 1;
+        }
+    }
+
+    public static class TileD1 extends DispatchTileD
+    {
+        public TileD1()
+        {
+        }
+
+        public TileD1(com.builtbroken.systemd.TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        protected int level()
+        {
+            return 5;
+        }
+    }
+
+    public static class TileD2 extends DispatchTileD
+    {
+        public TileD2()
+        {
+        }
+
+        public TileD2(com.builtbroken.systemd.TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        protected int level()
+        {
+            return 10;
+        }
+    }
+
+    public static class TileD3 extends DispatchTileD
+    {
+        public TileD3()
+        {
+        }
+
+        public TileD3(com.builtbroken.systemd.TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        protected int level()
+        {
+            return 15;
+        }
+    }
+}
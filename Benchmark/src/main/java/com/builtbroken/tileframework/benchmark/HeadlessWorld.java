@@ -0,0 +1,375 @@
+package com.builtbroken.tileframework.benchmark;
+
+import com.builtbroken.tileframework.TileInitQueue;
+import com.builtbroken.tileframework.TileTicker;
+import com.builtbroken.tileframework.lib.CollisionDispatcher;
+import com.builtbroken.tileframework.lib.ExplosionBatch;
+import com.builtbroken.tileframework.lib.RainService;
+import cpw.mods.fml.common.registry.GameRegistry;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EnumCreatureType;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.util.IProgressUpdate;
+import net.minecraft.world.ChunkPosition;
+import net.minecraft.world.MinecraftException;
+import net.minecraft.world.NextTickListEntry;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.biome.WorldChunkManagerHell;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.chunk.storage.IChunkLoader;
+import net.minecraft.world.storage.IPlayerFileData;
+import net.minecraft.world.storage.ISaveHandler;
+import net.minecraft.world.storage.WorldInfo;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * In memory {@link World} used to run blocks and tiles outside of a running game. Chunks are
+ * created empty the first time they are asked for and never saved or unloaded. The world has
+ * no sky so placing blocks only updates block light.
+ * <p/>
+ * Blocks are placed with the normal {@link World#setBlock(int, int, int, Block, int, int)} so
+ * tiles are created, validated and added to the tick list the same way as in game. Chunks store
+ * blocks by id, so any block placed needs to be registered first, see {@link #registerBlock(Block, String)}.
+ * <p/>
+ * Call {@link #tick()} to run a world tick. It follows the order of the server: the tile init
+ * queue, scheduled block ticks, the world's tiles, then the {@link TileTicker}. Explosion batches
+ * and collisions are flushed and rain is delivered at the end. Neighbor changes use the normal
+ * world notify calls.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class HeadlessWorld extends World
+{
+    static
+    {
+        //Registers the vanilla blocks and items, normally done by the game on start
+        Bootstrap.func_151354_b();
+    }
+
+    /** Max scheduled ticks run in a single tick, same limit as the server */
+    public static final int MAX_SCHEDULED_TICKS = 1000;
+
+    /** Scheduled ticks sorted by time then priority */
+    private final TreeSet<NextTickListEntry> pendingTicks = new TreeSet();
+    /** Same entries as {@link #pendingTicks}, used to skip duplicates */
+    private final Set<NextTickListEntry> pendingTickSet = new HashSet();
+    /** Entries being run in the current tick */
+    private final List<NextTickListEntry> ticksThisTick = new ArrayList();
+
+    public HeadlessWorld()
+    {
+        super(new HeadlessSaveHandler(), "headless", new WorldSettings(0L, WorldSettings.GameType.CREATIVE, false, false, WorldType.FLAT), new HeadlessWorldProvider(), new Profiler());
+    }
+
+    /**
+     * Registers a block so it has an id to be stored in chunks with
+     *
+     * @param block - block to register
+     * @param name  - unique name of the block
+     */
+    public static void registerBlock(Block block, String name)
+    {
+        GameRegistry.registerBlock(block, name);
+    }
+
+    /** Runs a single world tick */
+    public void tick()
+    {
+        TileInitQueue.process(this, TileInitQueue.budgetNanos);
+        worldInfo.incrementTotalWorldTime(worldInfo.getWorldTotalTime() + 1L);
+        runScheduledTicks();
+        updateEntities();
+        TileTicker.tick(this);
+        ExplosionBatch.SERVER.flush();
+        CollisionDispatcher.SERVER.flush();
+        RainService.tick(this);
+    }
+
+    /**
+     * Runs any scheduled block ticks that are due
+     *
+     * @return number of ticks run
+     */
+    protected int runScheduledTicks()
+    {
+        final long time = worldInfo.getWorldTotalTime();
+        while (ticksThisTick.size() < MAX_SCHEDULED_TICKS && !pendingTicks.isEmpty())
+        {
+            NextTickListEntry entry = pendingTicks.first();
+            if (entry.scheduledTime > time)
+            {
+                break;
+            }
+            pendingTicks.remove(entry);
+            pendingTickSet.remove(entry);
+            ticksThisTick.add(entry);
+        }
+
+        final int count = ticksThisTick.size();
+        for (NextTickListEntry entry : ticksThisTick)
+        {
+            Block block = getBlock(entry.xCoord, entry.yCoord, entry.zCoord);
+            if (block.getMaterial() != Material.air && Block.isEqualTo(block, entry.func_151351_a()))
+            {
+                block.updateTick(this, entry.xCoord, entry.yCoord, entry.zCoord, rand);
+            }
+        }
+        ticksThisTick.clear();
+        return count;
+    }
+
+    /** Number of scheduled ticks waiting to run */
+    public int getPendingTickCount()
+    {
+        return pendingTicks.size();
+    }
+
+    @Override
+    public void scheduleBlockUpdate(int x, int y, int z, Block block, int delay)
+    {
+        scheduleBlockUpdateWithPriority(x, y, z, block, delay, 0);
+    }
+
+    @Override
+    public void scheduleBlockUpdateWithPriority(int x, int y, int z, Block block, int delay, int priority)
+    {
+        func_147446_b(x, y, z, block, delay, priority);
+    }
+
+    @Override
+    public void func_147446_b(int x, int y, int z, Block block, int delay, int priority)
+    {
+        if (block.getMaterial() != Material.air)
+        {
+            NextTickListEntry entry = new NextTickListEntry(x, y, z, block);
+            entry.setPriority(priority);
+            entry.setScheduledTime((long) delay + worldInfo.getWorldTotalTime());
+            if (pendingTickSet.add(entry))
+            {
+                pendingTicks.add(entry);
+            }
+        }
+    }
+
+    @Override
+    public boolean isBlockTickScheduledThisTick(int x, int y, int z, Block block)
+    {
+        return ticksThisTick.contains(new NextTickListEntry(x, y, z, block));
+    }
+
+    @Override
+    protected IChunkProvider createChunkProvider()
+    {
+        return new HeadlessChunkProvider(this);
+    }
+
+    @Override
+    protected int func_152379_p()
+    {
+        return 0;
+    }
+
+    @Override
+    public Entity getEntityByID(int id)
+    {
+        return null;
+    }
+
+    /** Provider with a single biome and no sky */
+    public static class HeadlessWorldProvider extends WorldProvider
+    {
+        @Override
+        protected void registerWorldChunkManager()
+        {
+            this.worldChunkMgr = new WorldChunkManagerHell(BiomeGenBase.plains, 0.0F);
+            this.hasNoSky = true;
+        }
+
+        @Override
+        public String getDimensionName()
+        {
+            return "Headless";
+        }
+    }
+
+    /** Creates empty chunks on demand and keeps them for the life of the world */
+    public static class HeadlessChunkProvider implements IChunkProvider
+    {
+        private final World world;
+        private final Map<Long, Chunk> chunks = new HashMap();
+
+        public HeadlessChunkProvider(World world)
+        {
+            this.world = world;
+        }
+
+        private static long key(int chunkX, int chunkZ)
+        {
+            return (long) chunkX & 0xFFFFFFFFL | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+        }
+
+        @Override
+        public boolean chunkExists(int chunkX, int chunkZ)
+        {
+            return true;
+        }
+
+        @Override
+        public Chunk provideChunk(int chunkX, int chunkZ)
+        {
+            long key = key(chunkX, chunkZ);
+            Chunk chunk = chunks.get(key);
+            if (chunk == null)
+            {
+                chunk = new Chunk(world, chunkX, chunkZ);
+                chunk.isTerrainPopulated = true;
+                chunk.isLightPopulated = true;
+                chunk.isChunkLoaded = true;
+                chunks.put(key, chunk);
+            }
+            return chunk;
+        }
+
+        @Override
+        public Chunk loadChunk(int chunkX, int chunkZ)
+        {
+            return provideChunk(chunkX, chunkZ);
+        }
+
+        @Override
+        public void populate(IChunkProvider provider, int chunkX, int chunkZ)
+        {
+        }
+
+        @Override
+        public boolean saveChunks(boolean saveAll, IProgressUpdate progress)
+        {
+            return true;
+        }
+
+        @Override
+        public boolean unloadQueuedChunks()
+        {
+            return false;
+        }
+
+        @Override
+        public boolean canSave()
+        {
+            return false;
+        }
+
+        @Override
+        public String makeString()
+        {
+            return "HeadlessChunkProvider: " + chunks.size();
+        }
+
+        @Override
+        public List getPossibleCreatures(EnumCreatureType type, int x, int y, int z)
+        {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public ChunkPosition func_147416_a(World world, String structure, int x, int y, int z)
+        {
+            return null;
+        }
+
+        @Override
+        public int getLoadedChunkCount()
+        {
+            return chunks.size();
+        }
+
+        @Override
+        public void recreateStructures(int chunkX, int chunkZ)
+        {
+        }
+
+        @Override
+        public void saveExtraData()
+        {
+        }
+    }
+
+    /** Save handler that never reads or writes anything */
+    public static class HeadlessSaveHandler implements ISaveHandler
+    {
+        @Override
+        public WorldInfo loadWorldInfo()
+        {
+            return null;
+        }
+
+        @Override
+        public void checkSessionLock() throws MinecraftException
+        {
+        }
+
+        @Override
+        public IChunkLoader getChunkLoader(WorldProvider provider)
+        {
+            return null;
+        }
+
+        @Override
+        public void saveWorldInfoWithPlayer(WorldInfo info, NBTTagCompound tag)
+        {
+        }
+
+        @Override
+        public void saveWorldInfo(WorldInfo info)
+        {
+        }
+
+        @Override
+        public IPlayerFileData getSaveHandler()
+        {
+            return null;
+        }
+
+        @Override
+        public void flush()
+        {
+        }
+
+        @Override
+        public File getWorldDirectory()
+        {
+            return null;
+        }
+
+        @Override
+        public File getMapFileFromName(String name)
+        {
+            return null;
+        }
+
+        @Override
+        public String getWorldDirectoryName()
+        {
+            return "headless";
+        }
+    }
+}
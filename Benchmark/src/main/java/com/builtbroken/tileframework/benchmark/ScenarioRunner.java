@@ -0,0 +1,438 @@
+package com.builtbroken.tileframework.benchmark;
+
+import com.builtbroken.mc.lib.transform.region.Cube;
+import com.builtbroken.systemd.BlockTileD;
+import com.builtbroken.tileframework.BlockTileA;
+import com.builtbroken.tileframework.TileA;
+import com.builtbroken.tileframework.TileData;
+import net.minecraft.block.Block;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Places a number of tiles into a {@link HeadlessWorld}, ticks the world and reports tick time
+ * percentiles, allocation rate and heap used per tile. Used to reproduce scaling problems with
+ * large numbers of tiles without starting a server.
+ * <p/>
+ * Arguments are given as key=value, any left out use their default:
+ * <ul>
+ * <li>system - A or D, default A</li>
+ * <li>tiles - number of tiles to place, default 100000</li>
+ * <li>layout - LINE, GRID, CUBE or SCATTER, default GRID</li>
+ * <li>warmup - ticks run before measuring, default 200</li>
+ * <li>ticks - ticks measured, default 1000</li>
+ * <li>seed - seed for the SCATTER layout, default 0</li>
+ * </ul>
+ * Example: {@code java -cp benchmarks.jar com.builtbroken.tileframework.benchmark.ScenarioRunner tiles=1000000 layout=CUBE}
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class ScenarioRunner
+{
+    /** Lowest layer tiles are placed in */
+    public static final int BASE_Y = 8;
+
+    public String system = "A";
+    public int tiles = 100000;
+    public Layout layout = Layout.GRID;
+    public int warmup = 200;
+    public int ticks = 1000;
+    public long seed = 0L;
+
+    public static void main(String[] args)
+    {
+        ScenarioRunner runner = new ScenarioRunner();
+        for (String arg : args)
+        {
+            int split = arg.indexOf('=');
+            if (split <= 0)
+            {
+                throw new IllegalArgumentException("Arguments need to be key=value, " + arg);
+            }
+            runner.set(arg.substring(0, split), arg.substring(split + 1));
+        }
+        runner.run();
+    }
+
+    /**
+     * Sets an option by name
+     *
+     * @param key   - name of the option
+     * @param value - value as a string
+     */
+    public void set(String key, String value)
+    {
+        if (key.equals("system"))
+        {
+            system = value.toUpperCase();
+        }
+        else if (key.equals("tiles"))
+        {
+            tiles = Integer.parseInt(value);
+        }
+        else if (key.equals("layout"))
+        {
+            layout = Layout.valueOf(value.toUpperCase());
+        }
+        else if (key.equals("warmup"))
+        {
+            warmup = Integer.parseInt(value);
+        }
+        else if (key.equals("ticks"))
+        {
+            ticks = Integer.parseInt(value);
+        }
+        else if (key.equals("seed"))
+        {
+            seed = Long.parseLong(value);
+        }
+        else
+        {
+            throw new IllegalArgumentException("Unknown option " + key);
+        }
+    }
+
+    /** Runs the scenario and prints the report */
+    public void run()
+    {
+        final Block block = createBlock(system);
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+
+        HeadlessWorld world = new HeadlessWorld();
+        final long heapBefore = usedHeap(memory);
+
+        long start = System.nanoTime();
+        place(world, block);
+        long placeTime = System.nanoTime() - start;
+
+        final long heapAfter = usedHeap(memory);
+
+        for (int i = 0; i < warmup; i++)
+        {
+            world.tick();
+        }
+
+        final long[] tickTimes = new long[ticks];
+        final long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        start = System.nanoTime();
+        for (int i = 0; i < ticks; i++)
+        {
+            long tickStart = System.nanoTime();
+            world.tick();
+            tickTimes[i] = System.nanoTime() - tickStart;
+        }
+        final long runTime = System.nanoTime() - start;
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Arrays.sort(tickTimes);
+        System.out.println("Scenario: system " + system + ", " + tiles + " tiles, layout " + layout + ", " + ticks + " ticks measured after " + warmup + " warmup");
+        System.out.println("Placed in " + millis(placeTime) + " ms, " + world.loadedTileEntityList.size() + " ticking tiles");
+        System.out.println("Tick time ms: p50 " + millis(percentile(tickTimes, 0.50))
+                + ", p90 " + millis(percentile(tickTimes, 0.90))
+                + ", p99 " + millis(percentile(tickTimes, 0.99))
+                + ", p99.9 " + millis(percentile(tickTimes, 0.999))
+                + ", max " + millis(tickTimes.length > 0 ? tickTimes[tickTimes.length - 1] : 0));
+        System.out.println("Allocation: " + (allocated / Math.max(1, ticks)) + " bytes/tick, "
+                + String.format("%.1f", allocated / (runTime / 1e9) / (1024 * 1024)) + " MB/s");
+        System.out.println("Heap: " + ((heapAfter - heapBefore) / Math.max(1, tiles)) + " bytes/tile including chunks");
+    }
+
+    /**
+     * Places the tiles into the world using the layout
+     *
+     * @param world - world to place in
+     * @param block - block of the tile
+     */
+    public void place(World world, Block block)
+    {
+        final Random random = new Random(seed);
+        final int[] pos = new int[3];
+        for (int i = 0; i < tiles; i++)
+        {
+            layout.getPosition(i, tiles, random, pos);
+            world.setBlock(pos[0], pos[1] + BASE_Y, pos[2], block, 0, 3);
+        }
+    }
+
+    /** Creates and registers the pipe block for the system */
+    public static Block createBlock(String system)
+    {
+        Block block;
+        String name;
+        if ("A".equals(system))
+        {
+            PipeTileDataA data = new PipeTileDataA();
+            data.registerTiles();
+            block = new BlockTileA(data);
+            name = data.name;
+        }
+        else if ("D".equals(system))
+        {
+            PipeTileDataD data = new PipeTileDataD();
+            data.registerTiles();
+            block = new BlockTileD(data);
+            name = data.name;
+        }
+        else
+        {
+            throw new IllegalArgumentException("Unknown system " + system + ", expected A or D");
+        }
+        HeadlessWorld.registerBlock(block, name);
+        return block;
+    }
+
+    private static long usedHeap(MemoryMXBean memory)
+    {
+        for (int i = 0; i < 3; i++)
+        {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static long percentile(long[] sorted, double percentile)
+    {
+        if (sorted.length == 0)
+        {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static String millis(long nanos)
+    {
+        return String.format("%.3f", nanos / 1e6);
+    }
+
+    /** How tiles are placed, positions are relative to 0, {@link #BASE_Y}, 0 */
+    public enum Layout
+    {
+        /** Single row along the x axis */
+        LINE
+                {
+                    @Override
+                    public void getPosition(int index, int count, Random random, int[] pos)
+                    {
+                        pos[0] = index;
+                        pos[1] = 0;
+                        pos[2] = 0;
+                    }
+                },
+        /** Square layer, one block high */
+        GRID
+                {
+                    @Override
+                    public void getPosition(int index, int count, Random random, int[] pos)
+                    {
+                        int size = (int) Math.ceil(Math.sqrt(count));
+                        pos[0] = index % size;
+                        pos[1] = 0;
+                        pos[2] = index / size;
+                    }
+                },
+        /** Square columns stacked up to the height limit */
+        CUBE
+                {
+                    @Override
+                    public void getPosition(int index, int count, Random random, int[] pos)
+                    {
+                        int height = Math.min(256 - BASE_Y, (int) Math.ceil(Math.cbrt(count)));
+                        int size = (int) Math.ceil(Math.sqrt(Math.ceil(count / (double) height)));
+                        pos[0] = index % size;
+                        pos[1] = (index / size) % height;
+                        pos[2] = index / (size * height);
+                    }
+                },
+        /** Random spots in a square area four times the size of the grid, positions may repeat */
+        SCATTER
+                {
+                    @Override
+                    public void getPosition(int index, int count, Random random, int[] pos)
+                    {
+                        int size = 2 * (int) Math.ceil(Math.sqrt(count));
+                        pos[0] = random.nextInt(size);
+                        pos[1] = 0;
+                        pos[2] = random.nextInt(size);
+                    }
+                };
+
+        /**
+         * Gets the position of a tile
+         *
+         * @param index  - index of the tile being placed
+         * @param count  - total number of tiles placed
+         * @param random - random seeded for the scenario
+         * @param pos    - array to store the x, y, z position in
+         */
+        public abstract void getPosition(int index, int count, Random random, int[] pos);
+    }
+
+    //=========================
+    //==== Pipe tiles =========
+    //=========================
+
+    /** Number of pipes next to the tile, stands in for the neighbor lookups real pipes and cables do each tick */
+    private static int countConnections(World world, int x, int y, int z, Class<?> type)
+    {
+        int connections = 0;
+        if (type.isInstance(world.getTileEntity(x + 1, y, z)))
+        {
+            connections++;
+        }
+        if (type.isInstance(world.getTileEntity(x - 1, y, z)))
+        {
+            connections++;
+        }
+        if (type.isInstance(world.getTileEntity(x, y + 1, z)))
+        {
+            connections++;
+        }
+        if (type.isInstance(world.getTileEntity(x, y - 1, z)))
+        {
+            connections++;
+        }
+        if (type.isInstance(world.getTileEntity(x, y, z + 1)))
+        {
+            connections++;
+        }
+        if (type.isInstance(world.getTileEntity(x, y, z - 1)))
+        {
+            connections++;
+        }
+        return connections;
+    }
+
+    public static class PipeTileDataA extends TileData
+    {
+        public PipeTileDataA()
+        {
+            super(TileFactoryBenchmark.BenchmarkMod.INSTANCE);
+            this.name = "pipeA";
+            this.textureName = name;
+            this.bounds = new Cube(0, 0, 0, 1, 1, 1);
+            this.staticTile = new PipeTileA(this);
+        }
+
+        @Override
+        public void registerTiles()
+        {
+            registerTile(PipeTileA.class);
+        }
+    }
+
+    public static class PipeTileA extends TileA
+    {
+        /** Number of pipes connected to this pipe */
+        public int connections;
+
+        public PipeTileA()
+        {
+        }
+
+        public PipeTileA(TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        public void update()
+        {
+            connections = countConnections(world(), xi(), yi(), zi(), PipeTileA.class);
+        }
+    }
+
+    public static class PipeTileDataD extends com.builtbroken.systemd.TileData
+    {
+        public PipeTileDataD()
+        {
+            super(TileFactoryBenchmark.BenchmarkMod.INSTANCE);
+            this.name = "pipeD";
+            this.textureName = name;
+            this.bounds = new Cube(0, 0, 0, 1, 1, 1);
+            this.staticTile = new PipeTileD(this);
+        }
+
+        @Override
+        public TileEntity createNewTileEntity(World world, int meta)
+        {
+            return new PipeTileD();
+        }
+
+        @Override
+        public void registerTiles()
+        {
+            registerTile(PipeTileD.class);
+        }
+    }
+
+    public static class PipeTileD extends com.builtbroken.systemd.TileD
+    {
+        /** Number of pipes connected to this pipe */
+        public int connections;
+
+        public PipeTileD()
+        {
+        }
+
+        public PipeTileD(com.builtbroken.systemd.TileData data)
+        {
+            super(data);
+        }
+
+        @Override
+        public void update()
+        {
+            connections = countConnections(world(), xi(), yi(), zi(), PipeTileD.class);
+        }
+
+        @Override
+        public void onAdded()
+        {
+        }
+
+        @Override
+        public void onPlaced(EntityLivingBase entityLiving, ItemStack itemStack)
+        {
+        }
+
+        @Override
+        public void onPostPlaced(int metadata)
+        {
+        }
+
+        @Override
+        public void onRemove(Block block, int par6)
+        {
+        }
+
+        @Override
+        public boolean removeByPlayer(EntityPlayer player, boolean willHarvest)
+        {
+            return world().setBlockToAir(xi(), yi(), zi());
+        }
+
+        @Override
+        public boolean isSolid(int side)
+        {
+            return true;
+        }
+
+        @Override
+        public int getLightValue()
+        {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.builtbroken.tileframework.benchmark;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraftforge.common.util.ForgeDirection;
+
+/**
+ * Fixed size, in memory {@link IBlockAccess} used to call block hooks outside of a running game.
+ * Holds a cube of blocks starting at 0,0,0, anything outside of it reads as air.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class StandInBlockAccess implements IBlockAccess
+{
+    /** Size of each side of the cube */
+    public final int size;
+
+    private final Block[] blocks;
+    private final byte[] meta;
+    private final TileEntity[] tiles;
+
+    public StandInBlockAccess(int size)
+    {
+        this.size = size;
+        this.blocks = new Block[size * size * size];
+        this.meta = new byte[blocks.length];
+        this.tiles = new TileEntity[blocks.length];
+    }
+
+    /**
+     * Sets the block at the location
+     *
+     * @param tile - tile to place with the block, position is set to match, can be null
+     */
+    public void setBlock(int x, int y, int z, Block block, int meta, TileEntity tile)
+    {
+        int index = index(x, y, z);
+        if (index < 0)
+        {
+            throw new IllegalArgumentException("Outside of the stand in world " + x + "," + y + "," + z);
+        }
+        this.blocks[index] = block;
+        this.meta[index] = (byte) meta;
+        this.tiles[index] = tile;
+        if (tile != null)
+        {
+            tile.xCoord = x;
+            tile.yCoord = y;
+            tile.zCoord = z;
+        }
+    }
+
+    private int index(int x, int y, int z)
+    {
+        if (x < 0 || y < 0 || z < 0 || x >= size || y >= size || z >= size)
+        {
+            return -1;
+        }
+        return (y * size + z) * size + x;
+    }
+
+    @Override
+    public Block getBlock(int x, int y, int z)
+    {
+        int index = index(x, y, z);
+        return index >= 0 && blocks[index] != null ? blocks[index] : Blocks.air;
+    }
+
+    @Override
+    public TileEntity getTileEntity(int x, int y, int z)
+    {
+        int index = index(x, y, z);
+        return index >= 0 ? tiles[index] : null;
+    }
+
+    public int getLightBrightnessForSkyBlocks(int x, int y, int z, int light)
+    {
+        return 15 << 20 | 15 << 4;
+    }
+
+    @Override
+    public int getBlockMetadata(int x, int y, int z)
+    {
+        int index = index(x, y, z);
+        return index >= 0 ? meta[index] : 0;
+    }
+
+    @Override
+    public int isBlockProvidingPowerTo(int x, int y, int z, int side)
+    {
+        return getBlock(x, y, z).isProvidingStrongPower(this, x, y, z, side);
+    }
+
+    @Override
+    public boolean isAirBlock(int x, int y, int z)
+    {
+        return getBlock(x, y, z).isAir(this, x, y, z);
+    }
+
+    public BiomeGenBase getBiomeGenForCoords(int x, int z)
+    {
+        return BiomeGenBase.plains;
+    }
+
+    public int getHeight()
+    {
+        return 256;
+    }
+
+    public boolean extendedLevelsInChunkCache()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean isSideSolid(int x, int y, int z, ForgeDirection side, boolean _default)
+    {
+        int index = index(x, y, z);
+        return index >= 0 && blocks[index] != null ? blocks[index].isSideSolid(this, x, y, z, side) : _default;
+    }
+}
@@ -0,0 +1,81 @@
+package com.builtbroken.tileframework.benchmark;
+
+import com.builtbroken.tileframework.BlockTileA;
+import com.builtbroken.tileframework.TileInitQueue;
+import com.builtbroken.tileframework.TileTicker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ticking a large pipe network through the world's tile list against the {@link TileTicker}.
+ * The pipes fill a square layer but are placed in a random order, the same as a network built up
+ * over time or loaded back in from chunks. The world's list ticks them in that order while the
+ * ticker ticks them sorted by chunk and position. Each pipe checks its six neighbors every tick,
+ * see {@link ScenarioRunner.PipeTileA}. Results are per world tick.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TickOrderBenchmark
+{
+    /** Number of pipes placed */
+    public static final int PIPES = 100000;
+
+    @Param({"false", "true"})
+    public boolean sorted;
+
+    private HeadlessWorld world;
+
+    @Setup
+    public void setup()
+    {
+        ScenarioRunner.PipeTileDataA data = new ScenarioRunner.PipeTileDataA();
+        data.sortedTicking = sorted;
+        data.registerTiles();
+        BlockTileA block = new BlockTileA(data);
+        HeadlessWorld.registerBlock(block, data.name);
+
+        //Shuffle the grid positions so placement order has nothing to do with position
+        final int size = (int) Math.ceil(Math.sqrt(PIPES));
+        final int[] order = new int[PIPES];
+        for (int i = 0; i < PIPES; i++)
+        {
+            order[i] = i;
+        }
+        final Random random = new Random(0L);
+        for (int i = PIPES - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        world = new HeadlessWorld();
+        for (int index : order)
+        {
+            world.setBlock(index % size, ScenarioRunner.BASE_Y, index / size, block, 0, 2);
+        }
+
+        //Get every pipe initialized so only updates are measured
+        final TileInitQueue queue = TileInitQueue.getExisting(world);
+        while (queue != null && queue.size() > 0)
+        {
+            world.tick();
+        }
+    }
+
+    @Benchmark
+    public void tick()
+    {
+        world.tick();
+    }
+}
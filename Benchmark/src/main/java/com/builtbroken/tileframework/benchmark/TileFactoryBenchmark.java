@@ -0,0 +1,108 @@
+package com.builtbroken.tileframework.benchmark;
+
+import com.builtbroken.tileframework.TileA;
+import com.builtbroken.tileframework.TileData;
+import com.builtbroken.tileframework.TileFactory;
+import com.builtbroken.tileframework.api.IMod;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating tiles for a chunk load burst using the vanilla reflective path, a class
+ * lookup by save id followed by a reflective constructor call, against the {@link TileFactory}
+ * handle resolved at registration. Results are in tiles created per second.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TileFactoryBenchmark
+{
+    /** Number of tiles in a single burst, roughly a chunk full of machines */
+    public static final int BURST = 4096;
+
+    private static final String TILE_ID = "benchmarkTile";
+
+    /** Stand in for the map vanilla uses to find the class from the save id */
+    private final HashMap<String, Class> nameToClass = new HashMap();
+
+    private TileFactory factory;
+
+    @Setup
+    public void setup()
+    {
+        BenchmarkTileData data = new BenchmarkTileData();
+        data.registerTiles();
+        nameToClass.put(TILE_ID, BenchmarkTile.class);
+        factory = TileData.getFactoryFor(BenchmarkTile.class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void reflective(Blackhole blackhole) throws Exception
+    {
+        for (int i = 0; i < BURST; i++)
+        {
+            Class<?> clazz = nameToClass.get(TILE_ID);
+            blackhole.consume(clazz.getDeclaredConstructor().newInstance());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void factory(Blackhole blackhole)
+    {
+        for (int i = 0; i < BURST; i++)
+        {
+            blackhole.consume(factory.create());
+        }
+    }
+
+    public static class BenchmarkTile extends TileA
+    {
+        public BenchmarkTile()
+        {
+            super();
+        }
+    }
+
+    public static class BenchmarkTileData extends TileData
+    {
+        public BenchmarkTileData()
+        {
+            super(BenchmarkMod.INSTANCE);
+            this.name = "benchmarkTile";
+        }
+
+        @Override
+        public void registerTiles()
+        {
+            registerTile(BenchmarkTile.class);
+        }
+    }
+
+    public static class BenchmarkMod implements IMod
+    {
+        public static final BenchmarkMod INSTANCE = new BenchmarkMod();
+
+        @Override
+        public String getPrefix()
+        {
+            return "benchmark:";
+        }
+
+        @Override
+        public String getDomain()
+        {
+            return "benchmark";
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * JMH benchmarks and headless tools for comparing the tile systems.
+ * <p/>
+ * The benchmark classes only hold the JMH annotations, the code that runs them is generated at
+ * compile time. Building the module needs:
+ * <ul>
+ * <li>jmh-core on the compile classpath</li>
+ * <li>jmh-generator-annprocess on the annotation processor path, without it no benchmarks are
+ * found when the jar is run</li>
+ * <li>the Minecraft 1.7.10 and Forge dev jars, VoltzEngine and the Core, System A and System D
+ * modules, all packed into the benchmark jar</li>
+ * </ul>
+ * Run with {@code java -jar benchmarks.jar <Benchmark> -prof gc} to get allocation next to the
+ * timings. The benchmarks cover:
+ * <ul>
+ * <li>{@link com.builtbroken.tileframework.benchmark.TileFactoryBenchmark} - tile creation by
+ * reflection against the factory handle</li>
+ * <li>{@link com.builtbroken.tileframework.benchmark.BlockSpecializationBenchmark} - shared block
+ * hooks against generated block classes</li>
+ * <li>{@link com.builtbroken.tileframework.benchmark.TickOrderBenchmark} - world tile list
+ * against the tile ticker</li>
+ * <li>{@link com.builtbroken.tileframework.benchmark.DispatchBenchmark} - System A against
+ * System D hook dispatch</li>
+ * </ul>
+ * {@link com.builtbroken.tileframework.benchmark.ScenarioRunner} has its own main and doesn't
+ * need JMH.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+package com.builtbroken.tileframework.benchmark;
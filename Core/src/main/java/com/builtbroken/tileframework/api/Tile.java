@@ -0,0 +1,26 @@
+package com.builtbroken.tileframework.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a tile class to be registered automatically. At build time the
+ * {@link com.builtbroken.tileframework.processor.TileIndexProcessor} writes every marked
+ * class into an index file which is read at startup, so tiles can be registered
+ * without scanning the classpath or loading classes that are never used.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Tile
+{
+    /** Tile data class the tile is registered to, needs a constructor that takes an {@link IMod} */
+    Class<?> data();
+
+    /** Id the tile is saved with, left empty to not register the tile with the game */
+    String id() default "";
+}
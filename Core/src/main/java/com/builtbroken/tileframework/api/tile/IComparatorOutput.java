@@ -0,0 +1,20 @@
+package com.builtbroken.tileframework.api.tile;
+
+/**
+ * Applied to tiles that provide a level to redstone comparators
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public interface IComparatorOutput extends ITile
+{
+    /**
+     * Gets the level read by a comparator. Should return a cached value
+     * that is only recalculated when the state of the tile changes, as
+     * comparators read this every time they update.
+     *
+     * @param side - side the comparator is reading from
+     * @return level from 0 - 15
+     */
+    int getComparatorOutput(int side);
+}
@@ -9,4 +9,17 @@ import net.minecraft.world.Explosion;
 public interface IDestroyedByExplosion
 {
     void onDestroyedByExplosion(Explosion ex);
+
+    /**
+     * Called on the static tile once per explosion with every block of this tile it destroyed.
+     * Overriding this switches the block over to batching, {@link #onDestroyedByExplosion(Explosion)}
+     * is then no longer called. The tiles are already removed from the world at this point.
+     *
+     * @param ex        - explosion
+     * @param positions - destroyed positions, see {@link com.builtbroken.tileframework.lib.PackedPos}
+     * @param count     - number of positions
+     */
+    default void onDestroyedByExplosion(Explosion ex, long[] positions, int count)
+    {
+    }
 }
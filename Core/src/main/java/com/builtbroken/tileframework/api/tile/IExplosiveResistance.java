@@ -9,5 +9,27 @@ import net.minecraft.entity.Entity;
  */
 public interface IExplosiveResistance extends ITile
 {
-    float getExplosionResistance(Entity entity, Pos pos);
+    /**
+     * Gets the explosive resistance of the block
+     *
+     * @param entity     - entity causing the explosion
+     * @param explosionX - x of the center of the explosion
+     * @param explosionY - y of the center of the explosion
+     * @param explosionZ - z of the center of the explosion
+     * @return resistance
+     */
+    float getExplosionResistance(Entity entity, double explosionX, double explosionY, double explosionZ);
+
+    /**
+     * Gets the explosive resistance of the block. Kept for older callers, passes the
+     * position on to {@link #getExplosionResistance(Entity, double, double, double)}.
+     *
+     * @param entity - entity causing the explosion
+     * @param pos    - center of the explosion
+     * @return resistance
+     */
+    default float getExplosionResistance(Entity entity, Pos pos)
+    {
+        return getExplosionResistance(entity, pos.x(), pos.y(), pos.z());
+    }
 }
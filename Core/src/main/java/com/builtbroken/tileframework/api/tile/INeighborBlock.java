@@ -1,6 +1,7 @@
 package com.builtbroken.tileframework.api.tile;
 
 import com.builtbroken.mc.lib.transform.vector.Pos;
+import com.builtbroken.tileframework.lib.PackedPos;
 import net.minecraft.block.Block;
 
 /**
@@ -11,5 +12,21 @@ public interface INeighborBlock extends ITile
 {
     void onNeighborChanged(Block block);
 
-    void onNeighborChanged(Pos pos);
+    /**
+     * Called when a neighbor tile changes
+     *
+     * @param pos - position of the tile that changed, see {@link PackedPos}
+     */
+    void onNeighborChanged(long pos);
+
+    /**
+     * Called when a neighbor tile changes. Kept for older callers, packs
+     * the position and passes it on to {@link #onNeighborChanged(long)}.
+     *
+     * @param pos - position of the tile that changed
+     */
+    default void onNeighborChanged(Pos pos)
+    {
+        onNeighborChanged(PackedPos.pack(pos));
+    }
 }
@@ -9,5 +9,29 @@ import net.minecraft.entity.player.EntityPlayer;
  */
 public interface IPlayerActivate
 {
-    boolean onPlayerActivated(EntityPlayer player, int side, Pos pos);
+    /**
+     * Called when the player right clicks the block
+     *
+     * @param player - player who clicked the block
+     * @param side   - side of the block clicked
+     * @param hitX   - x of the spot hit on the block, 0 to 1
+     * @param hitY   - y of the spot hit on the block, 0 to 1
+     * @param hitZ   - z of the spot hit on the block, 0 to 1
+     * @return true if the click event was used
+     */
+    boolean onPlayerActivated(EntityPlayer player, int side, float hitX, float hitY, float hitZ);
+
+    /**
+     * Called when the player right clicks the block. Kept for older callers, passes the
+     * hit on to {@link #onPlayerActivated(EntityPlayer, int, float, float, float)}.
+     *
+     * @param player - player who clicked the block
+     * @param side   - side of the block clicked
+     * @param pos    - spot hit on the block
+     * @return true if the click event was used
+     */
+    default boolean onPlayerActivated(EntityPlayer player, int side, Pos pos)
+    {
+        return onPlayerActivated(player, side, (float) pos.x(), (float) pos.y(), (float) pos.z());
+    }
 }
@@ -12,4 +12,15 @@ public interface IRainFallible extends ITile
      * Called each tick rain is hitting the tile.
      */
     void onFillRain();
+
+    /**
+     * Called by the {@link com.builtbroken.tileframework.lib.RainService} for tiles whose data sets a
+     * rain interval, in place of {@link #onFillRain()}. Calls {@link #onFillRain()} once by default.
+     *
+     * @param rainTicks - number of ticks it has rained since the last call
+     */
+    default void onFillRain(int rainTicks)
+    {
+        onFillRain();
+    }
 }
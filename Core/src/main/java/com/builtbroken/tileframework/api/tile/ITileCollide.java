@@ -3,6 +3,8 @@ package com.builtbroken.tileframework.api.tile;
 import com.builtbroken.mc.lib.transform.region.Cube;
 import net.minecraft.entity.Entity;
 
+import java.util.Collection;
+
 /**
  * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
  * Created by Dark(DarkGuardsman, Robert) on 4/11/2016.
@@ -11,6 +13,20 @@ public interface ITileCollide extends ITile
 {
     void onCollide(Entity entity);
 
+    /**
+     * Called once per tick with every entity colliding with the block. Only used when the tile data
+     * sets a collision cooldown or this is overridden, see {@link com.builtbroken.tileframework.lib.CollisionDispatcher}
+     *
+     * @param entities - entities touching the block
+     */
+    default void onCollide(Collection<Entity> entities)
+    {
+        for (Entity entity : entities)
+        {
+            onCollide(entity);
+        }
+    }
+
     Iterable<Cube> getCollisionBoxes(Cube subtract, Entity entity);
 
     Cube getSelectBounds();
@@ -0,0 +1,415 @@
+package com.builtbroken.tileframework.lib;
+
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.LongHashMap;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Gathers entity collisions with tile blocks over a tick and passes them on grouped by position, so a
+ * tile with many entities standing on it gets one call with all of them rather than one call per entity.
+ * Entities still on cooldown from a previous contact with the same position are dropped, see
+ * {@link Handler#getCollisionCooldown()}.
+ * <p/>
+ * This only batches the dispatch to the tile, it is not a broadphase. Contacts are still found by
+ * vanilla calling {@link net.minecraft.block.Block#onEntityCollidedWithBlock(World, int, int, int, Entity)}
+ * once per entity per block, the block then hands them to {@link #add(World, Handler, int, int, int, Entity)}.
+ * <p/>
+ * Contacts and cooldowns are kept per world, so the same position in two dimensions never shares
+ * them. Each world's contacts are passed on at the end of its world tick, and positions with no
+ * cooldowns left are pruned using that world's time. There is one dispatcher per side, each only
+ * used from that side's main thread. Stats are counted once per server or client tick across every
+ * world. Call {@link #register()} during init so the dispatchers are flushed each tick and drop the
+ * contacts of worlds as they unload.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class CollisionDispatcher
+{
+    public static final CollisionDispatcher SERVER = new CollisionDispatcher();
+    public static final CollisionDispatcher CLIENT = new CollisionDispatcher();
+
+    /** Number of flushes of a world between removing its positions that have had no contacts */
+    private static final int PRUNE_INTERVAL = 200;
+
+    private static boolean registered = false;
+
+    /** Contacts of each world, the map only holds worlds weakly */
+    private final Map<World, WorldContacts> worlds = new WeakHashMap();
+
+    //Stats
+    private int contactsThisTick = 0;
+    private int suppressedThisTick = 0;
+    private int contactsLastTick = 0;
+    private int suppressedLastTick = 0;
+    private long totalContacts = 0;
+    private long totalSuppressed = 0;
+    private long ticks = 0;
+
+    private CollisionDispatcher()
+    {
+    }
+
+    /**
+     * Gets the dispatcher for the side the world is on
+     *
+     * @param world - world
+     * @return dispatcher
+     */
+    public static CollisionDispatcher get(World world)
+    {
+        return world.isRemote ? CLIENT : SERVER;
+    }
+
+    /** Registers the tick and unload listener of the dispatchers, safe to call more than once */
+    public static synchronized void register()
+    {
+        if (!registered)
+        {
+            registered = true;
+            Listener listener = new Listener();
+            FMLCommonHandler.instance().bus().register(listener);
+            MinecraftForge.EVENT_BUS.register(listener);
+        }
+    }
+
+    /**
+     * Drops the contacts and cooldowns of the world
+     *
+     * @param world - world being unloaded
+     */
+    public static void unload(World world)
+    {
+        get(world).worlds.remove(world);
+    }
+
+    /**
+     * Adds a contact between an entity and a block
+     *
+     * @param world   - world
+     * @param handler - handler for the block, normally the block itself
+     * @param x       - x position
+     * @param y       - y position
+     * @param z       - z position
+     * @param entity  - entity touching the block
+     */
+    public void add(World world, Handler handler, int x, int y, int z, Entity entity)
+    {
+        WorldContacts state = worlds.get(world);
+        if (state == null)
+        {
+            state = new WorldContacts();
+            worlds.put(world, state);
+        }
+        final long pos = PackedPos.pack(x, y, z);
+        Contacts list = (Contacts) state.contacts.getValueByKey(pos);
+        if (list == null)
+        {
+            list = new Contacts(pos);
+            state.contacts.add(pos, list);
+            state.tracked.add(list);
+        }
+        else if (list.handler != handler)
+        {
+            //Block was replaced, old cooldowns don't apply
+            list.cooldownCount = 0;
+        }
+        list.handler = handler;
+
+        final long time = world.getTotalWorldTime();
+        final int cooldown = handler.getCollisionCooldown();
+        if (cooldown > 0 && !list.startCooldown(entity.getEntityId(), time, cooldown))
+        {
+            suppressedThisTick++;
+            return;
+        }
+        if (list.entities.contains(entity))
+        {
+            return;
+        }
+        if (list.entities.isEmpty())
+        {
+            state.active.add(list);
+        }
+        list.entities.add(entity);
+        contactsThisTick++;
+    }
+
+    /**
+     * Passes the gathered contacts of the world to their handlers
+     *
+     * @param world - world
+     */
+    public void flush(World world)
+    {
+        final WorldContacts state = worlds.get(world);
+        if (state != null)
+        {
+            state.flush(world);
+        }
+    }
+
+    /** Passes the gathered contacts of every world to their handlers, then ends the tick for the stats */
+    public void flush()
+    {
+        if (!worlds.isEmpty())
+        {
+            for (Map.Entry<World, WorldContacts> entry : new ArrayList<Map.Entry<World, WorldContacts>>(worlds.entrySet()))
+            {
+                entry.getValue().flush(entry.getKey());
+            }
+        }
+        endTick();
+    }
+
+    /** Moves this tick's counts into the last tick and the averages */
+    private void endTick()
+    {
+        contactsLastTick = contactsThisTick;
+        suppressedLastTick = suppressedThisTick;
+        totalContacts += contactsThisTick;
+        totalSuppressed += suppressedThisTick;
+        contactsThisTick = 0;
+        suppressedThisTick = 0;
+        ticks++;
+    }
+
+    /** Contacts passed on during the last tick */
+    public int getContactsLastTick()
+    {
+        return contactsLastTick;
+    }
+
+    /** Contacts dropped due to cooldown during the last tick */
+    public int getSuppressedLastTick()
+    {
+        return suppressedLastTick;
+    }
+
+    /** Average contacts passed on per tick since the last {@link #resetStats()} */
+    public double getAverageContacts()
+    {
+        return ticks > 0 ? totalContacts / (double) ticks : 0;
+    }
+
+    /** Average contacts dropped per tick since the last {@link #resetStats()} */
+    public double getAverageSuppressed()
+    {
+        return ticks > 0 ? totalSuppressed / (double) ticks : 0;
+    }
+
+    /** Number of positions being tracked across every world */
+    public int getTrackedPositions()
+    {
+        int count = 0;
+        for (WorldContacts state : worlds.values())
+        {
+            count += state.tracked.size();
+        }
+        return count;
+    }
+
+    /** Clears the averages */
+    public void resetStats()
+    {
+        totalContacts = 0;
+        totalSuppressed = 0;
+        ticks = 0;
+    }
+
+    /** Receives the entities touching a block */
+    public interface Handler
+    {
+        /**
+         * Called once per tick with every entity that touched the block
+         *
+         * @param world    - world
+         * @param x        - x position
+         * @param y        - y position
+         * @param z        - z position
+         * @param entities - entities touching the block, safe to keep
+         */
+        void onCollisionBatch(World world, int x, int y, int z, List<Entity> entities);
+
+        /**
+         * Ticks after a contact before the same entity is passed on again for the same position
+         *
+         * @return ticks, zero for every tick
+         */
+        int getCollisionCooldown();
+    }
+
+    /** Contacts and cooldowns of a single world */
+    private static final class WorldContacts
+    {
+        /** Positions with contacts or cooldowns, by packed position. Keyed by primitive long so lookups don't box */
+        final LongHashMap contacts = new LongHashMap();
+        /** Every value of {@link #contacts}, the map can't be iterated so this is walked when pruning */
+        final ArrayList<Contacts> tracked = new ArrayList();
+        /** Positions with contacts this tick, in the order of their first contact */
+        final ArrayList<Contacts> active = new ArrayList();
+
+        int flushes = 0;
+
+        void flush(World world)
+        {
+            if (!active.isEmpty())
+            {
+                //Copied out first, a handler can cause more contacts which wait for the next flush
+                final Contacts[] waiting = active.toArray(new Contacts[active.size()]);
+                active.clear();
+                for (Contacts list : waiting)
+                {
+                    final List<Entity> entities = new ArrayList(list.entities);
+                    list.entities.clear();
+                    list.handler.onCollisionBatch(world, PackedPos.getX(list.pos), PackedPos.getY(list.pos), PackedPos.getZ(list.pos), entities);
+                }
+            }
+            if (++flushes >= PRUNE_INTERVAL)
+            {
+                flushes = 0;
+                prune(world.getTotalWorldTime());
+            }
+        }
+
+        /** Removes positions with no recent contact and no cooldowns left */
+        void prune(long time)
+        {
+            int write = 0;
+            for (int read = 0; read < tracked.size(); read++)
+            {
+                final Contacts list = tracked.get(read);
+                if (list.entities.isEmpty() && !list.hasCooldowns(time))
+                {
+                    contacts.remove(list.pos);
+                }
+                else
+                {
+                    tracked.set(write++, list);
+                }
+            }
+            for (int i = tracked.size() - 1; i >= write; i--)
+            {
+                tracked.remove(i);
+            }
+        }
+    }
+
+    private static final class Contacts
+    {
+        final long pos;
+        final ArrayList<Entity> entities = new ArrayList(4);
+        Handler handler;
+
+        /** Entity ids on cooldown and the time each cooldown ends */
+        int[] cooldownIds = new int[4];
+        long[] cooldownEnds = new long[4];
+        int cooldownCount = 0;
+
+        Contacts(long pos)
+        {
+            this.pos = pos;
+        }
+
+        /**
+         * Starts the cooldown for the entity
+         *
+         * @return false if the entity is still on cooldown
+         */
+        boolean startCooldown(int id, long time, int cooldown)
+        {
+            int free = -1;
+            for (int i = 0; i < cooldownCount; i++)
+            {
+                if (cooldownIds[i] == id)
+                {
+                    if (cooldownEnds[i] > time)
+                    {
+                        return false;
+                    }
+                    cooldownEnds[i] = time + cooldown;
+                    return true;
+                }
+                if (free < 0 && cooldownEnds[i] <= time)
+                {
+                    free = i;
+                }
+            }
+            if (free < 0)
+            {
+                if (cooldownCount == cooldownIds.length)
+                {
+                    cooldownIds = Arrays.copyOf(cooldownIds, cooldownCount * 2);
+                    cooldownEnds = Arrays.copyOf(cooldownEnds, cooldownCount * 2);
+                }
+                free = cooldownCount++;
+            }
+            cooldownIds[free] = id;
+            cooldownEnds[free] = time + cooldown;
+            return true;
+        }
+
+        boolean hasCooldowns(long time)
+        {
+            for (int i = 0; i < cooldownCount; i++)
+            {
+                if (cooldownEnds[i] > time)
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Flushes each world's contacts at the end of its world tick and ends the stats tick at the end of
+     * the server tick. The client has no world tick event so its worlds are flushed with the client tick.
+     */
+    public static final class Listener
+    {
+        @SubscribeEvent
+        public void onWorldTick(TickEvent.WorldTickEvent event)
+        {
+            if (event.phase == TickEvent.Phase.END)
+            {
+                SERVER.flush(event.world);
+            }
+        }
+
+        @SubscribeEvent
+        public void onServerTick(TickEvent.ServerTickEvent event)
+        {
+            if (event.phase == TickEvent.Phase.END)
+            {
+                SERVER.endTick();
+            }
+        }
+
+        @SubscribeEvent
+        public void onClientTick(TickEvent.ClientTickEvent event)
+        {
+            if (event.phase == TickEvent.Phase.END)
+            {
+                CLIENT.flush();
+            }
+        }
+
+        @SubscribeEvent
+        public void onWorldUnload(WorldEvent.Unload event)
+        {
+            unload(event.world);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.builtbroken.tileframework.lib;
+
+import net.minecraft.block.Block;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Items dropped by a block, set up once when the tile is registered. Lets the block work out its
+ * drops from the meta value alone, without looking up or calling the tile. Tiles whose drops depend
+ * on their own state, such as inventories, should keep using their getDrops hook instead.
+ * <p/>
+ * Each entry drops between a min and max count, with the max raised by fortune and an optional
+ * chance to drop at all. Stacks of the same item are merged before being returned, and stacks
+ * bigger than the item's max stack size are split. Merging only covers the drops of one block,
+ * drops of different blocks broken in the same tick are left as they are.
+ * <p/>
+ * Example, drops itself with the same meta and one to three sticks plus one per fortune level:
+ * <pre>
+ * drops = new DropTable();
+ * drops.add(DropTable.ANY_META, block, DropTable.SAME_META, 1, 1);
+ * drops.add(DropTable.ANY_META, Items.stick, 0, 1, 3).fortune(1);
+ * </pre>
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class DropTable
+{
+    /** Meta value used to add an entry for every meta */
+    public static final int ANY_META = -1;
+    /** Item damage used to drop the item with the block's meta value */
+    public static final int SAME_META = -1;
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    /** Entries by block meta, entries added for {@link #ANY_META} are in every slot */
+    private final Entry[][] entries = new Entry[16][];
+
+    public DropTable()
+    {
+        Arrays.fill(entries, EMPTY);
+    }
+
+    /**
+     * Adds an item to drop
+     *
+     * @param meta   - block meta the entry is for, or {@link #ANY_META}
+     * @param item   - item to drop
+     * @param damage - damage of the item, or {@link #SAME_META}
+     * @param min    - min number to drop
+     * @param max    - max number to drop before fortune
+     * @return entry, used to set fortune and chance
+     */
+    public Entry add(int meta, Item item, int damage, int min, int max)
+    {
+        return add(meta, new Entry(item, null, damage, min, max));
+    }
+
+    /**
+     * Adds a block to drop. The item of the block is looked up the first time the entry drops,
+     * so the table can be set up before the block is registered.
+     *
+     * @param meta   - block meta the entry is for, or {@link #ANY_META}
+     * @param block  - block to drop
+     * @param damage - damage of the item, or {@link #SAME_META}
+     * @param min    - min number to drop
+     * @param max    - max number to drop before fortune
+     * @return entry, used to set fortune and chance
+     */
+    public Entry add(int meta, Block block, int damage, int min, int max)
+    {
+        return add(meta, new Entry(null, block, damage, min, max));
+    }
+
+    private Entry add(int meta, Entry entry)
+    {
+        if (meta == ANY_META)
+        {
+            for (int i = 0; i < entries.length; i++)
+            {
+                entries[i] = append(entries[i], entry);
+            }
+        }
+        else if (meta >= 0 && meta < entries.length)
+        {
+            entries[meta] = append(entries[meta], entry);
+        }
+        else
+        {
+            throw new IllegalArgumentException("Meta needs to be 0-15 or ANY_META, was " + meta);
+        }
+        return entry;
+    }
+
+    private static Entry[] append(Entry[] array, Entry entry)
+    {
+        Entry[] copy = Arrays.copyOf(array, array.length + 1);
+        copy[array.length] = entry;
+        return copy;
+    }
+
+    /**
+     * Checks if the table has anything to drop for the meta
+     *
+     * @param meta - block meta
+     * @return true if there is at least one entry
+     */
+    public boolean hasDrops(int meta)
+    {
+        return entries[meta & 15].length > 0;
+    }
+
+    /**
+     * Creates the drops for a broken block
+     *
+     * @param meta    - block meta
+     * @param fortune - fortune level of the tool
+     * @param random  - random to use, normally the world's
+     * @return new list of merged stacks, safe to change
+     */
+    public ArrayList<ItemStack> getDrops(int meta, int fortune, Random random)
+    {
+        final Entry[] metaEntries = entries[meta & 15];
+        final ArrayList<ItemStack> drops = new ArrayList(metaEntries.length);
+        for (Entry entry : metaEntries)
+        {
+            ItemStack stack = entry.create(meta, fortune, random);
+            if (stack != null)
+            {
+                add(drops, stack);
+            }
+        }
+        return drops;
+    }
+
+    /**
+     * Merges stacks of the same item in the list, so fewer item entities are spawned. The
+     * stacks are copied first, so stacks the tile still holds on to are not changed.
+     *
+     * @param drops - drops of a single block, changed in place
+     * @return the list
+     */
+    public static <L extends List<ItemStack>> L merge(L drops)
+    {
+        if (drops.isEmpty())
+        {
+            return drops;
+        }
+        final ArrayList<ItemStack> merged = new ArrayList(drops.size());
+        for (ItemStack stack : drops)
+        {
+            if (stack != null && stack.stackSize > 0)
+            {
+                add(merged, stack.copy());
+            }
+        }
+        drops.clear();
+        drops.addAll(merged);
+        return drops;
+    }
+
+    /** Adds the stack to the list, filling up matching stacks first then splitting what is left into full stacks */
+    private static void add(List<ItemStack> drops, ItemStack stack)
+    {
+        if (stack.isStackable())
+        {
+            for (int i = 0; i < drops.size() && stack.stackSize > 0; i++)
+            {
+                ItemStack other = drops.get(i);
+                if (other.stackSize < other.getMaxStackSize() && other.isItemEqual(stack) && ItemStack.areItemStackTagsEqual(other, stack))
+                {
+                    int moved = Math.min(stack.stackSize, other.getMaxStackSize() - other.stackSize);
+                    other.stackSize += moved;
+                    stack.stackSize -= moved;
+                }
+            }
+        }
+        final int maxSize = Math.max(1, stack.getMaxStackSize());
+        while (stack.stackSize > maxSize)
+        {
+            drops.add(stack.splitStack(maxSize));
+        }
+        if (stack.stackSize > 0)
+        {
+            drops.add(stack);
+        }
+    }
+
+    /** Single item in the table */
+    public static final class Entry
+    {
+        private final Block block;
+        private final int damage;
+        private final int min;
+        private final int max;
+        private Item item;
+        private int fortunePerLevel = 0;
+        private float chance = 1f;
+
+        private Entry(Item item, Block block, int damage, int min, int max)
+        {
+            if (min < 0 || max < min)
+            {
+                throw new IllegalArgumentException("Invalid drop count " + min + "-" + max);
+            }
+            this.item = item;
+            this.block = block;
+            this.damage = damage;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Raises the max count for each level of fortune
+         *
+         * @param perLevel - added to the max count per level
+         * @return this
+         */
+        public Entry fortune(int perLevel)
+        {
+            this.fortunePerLevel = perLevel;
+            return this;
+        }
+
+        /**
+         * Sets the chance the entry drops at all
+         *
+         * @param chance - 0 to 1
+         * @return this
+         */
+        public Entry chance(float chance)
+        {
+            this.chance = chance;
+            return this;
+        }
+
+        private ItemStack create(int meta, int fortune, Random random)
+        {
+            if (chance < 1f && random.nextFloat() >= chance)
+            {
+                return null;
+            }
+            if (item == null)
+            {
+                item = Item.getItemFromBlock(block);
+                if (item == null)
+                {
+                    return null;
+                }
+            }
+            final int top = max + fortune * fortunePerLevel;
+            final int count = top > min ? min + random.nextInt(top - min + 1) : min;
+            return count > 0 ? new ItemStack(item, count, damage == SAME_META ? meta : damage) : null;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.builtbroken.tileframework.lib;
+
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import net.minecraft.world.Explosion;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * Collects the blocks destroyed by an explosion so each block type gets a single call with all of
+ * its positions, rather than one call per block. Positions are collected until a different explosion
+ * destroys a block or the tick ends, whichever comes first, then passed to each {@link Handler}.
+ * <p/>
+ * There is one batch per side, each only used from that side's main thread. Call {@link #register()}
+ * during init so the batches are flushed at the end of each tick.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class ExplosionBatch
+{
+    public static final ExplosionBatch SERVER = new ExplosionBatch();
+    public static final ExplosionBatch CLIENT = new ExplosionBatch();
+
+    private static boolean registered = false;
+
+    /** Explosion the positions are being collected for */
+    private Explosion explosion;
+    /** World of {@link #explosion} */
+    private World world;
+
+    /** Handlers with positions waiting, in the order they were first added */
+    private final ArrayList<Handler> handlers = new ArrayList();
+    /** Positions waiting by handler, kept between explosions so the arrays are reused */
+    private final IdentityHashMap<Handler, Positions> positions = new IdentityHashMap();
+
+    private ExplosionBatch()
+    {
+    }
+
+    /**
+     * Gets the batch for the side the world is on
+     *
+     * @param world - world
+     * @return batch
+     */
+    public static ExplosionBatch get(World world)
+    {
+        return world.isRemote ? CLIENT : SERVER;
+    }
+
+    /** Registers the tick listener that flushes the batches, safe to call more than once */
+    public static synchronized void register()
+    {
+        if (!registered)
+        {
+            registered = true;
+            FMLCommonHandler.instance().bus().register(new Listener());
+        }
+    }
+
+    /**
+     * Adds a destroyed block to the batch
+     *
+     * @param world     - world the explosion is in
+     * @param explosion - explosion that destroyed the block
+     * @param handler   - handler to pass the position to, normally the block
+     * @param x         - x position
+     * @param y         - y position
+     * @param z         - z position
+     */
+    public void add(World world, Explosion explosion, Handler handler, int x, int y, int z)
+    {
+        if (explosion != this.explosion || world != this.world)
+        {
+            flush();
+            this.explosion = explosion;
+            this.world = world;
+        }
+        Positions list = positions.get(handler);
+        if (list == null)
+        {
+            list = new Positions();
+            positions.put(handler, list);
+        }
+        if (list.count == 0)
+        {
+            handlers.add(handler);
+        }
+        list.add(PackedPos.pack(x, y, z));
+    }
+
+    /** Passes the collected positions to their handlers */
+    public void flush()
+    {
+        if (handlers.isEmpty())
+        {
+            return;
+        }
+        final Handler[] waiting = handlers.toArray(new Handler[handlers.size()]);
+        final Explosion explosion = this.explosion;
+        final World world = this.world;
+        handlers.clear();
+        this.explosion = null;
+        this.world = null;
+
+        //Copied out before calling, a handler can cause another explosion that adds to the batch
+        for (Handler handler : waiting)
+        {
+            Positions list = positions.get(handler);
+            long[] copy = Arrays.copyOf(list.positions, list.count);
+            list.count = 0;
+            handler.onExplosionBatch(world, explosion, copy, copy.length);
+        }
+    }
+
+    /** Receives the positions destroyed by an explosion */
+    public interface Handler
+    {
+        /**
+         * Called once per explosion with every position added for this handler
+         *
+         * @param world     - world of the explosion
+         * @param explosion - explosion
+         * @param positions - destroyed positions, see {@link PackedPos}
+         * @param count     - number of positions
+         */
+        void onExplosionBatch(World world, Explosion explosion, long[] positions, int count);
+    }
+
+    private static final class Positions
+    {
+        long[] positions = new long[64];
+        int count = 0;
+
+        void add(long pos)
+        {
+            if (count == positions.length)
+            {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = pos;
+        }
+    }
+
+    /** Flushes the batches at the end of each tick */
+    public static final class Listener
+    {
+        @SubscribeEvent
+        public void onServerTick(TickEvent.ServerTickEvent event)
+        {
+            if (event.phase == TickEvent.Phase.END)
+            {
+                SERVER.flush();
+            }
+        }
+
+        @SubscribeEvent
+        public void onWorldTick(TickEvent.WorldTickEvent event)
+        {
+            if (event.phase == TickEvent.Phase.END)
+            {
+                SERVER.flush();
+            }
+        }
+
+        @SubscribeEvent
+        public void onClientTick(TickEvent.ClientTickEvent event)
+        {
+            if (event.phase == TickEvent.Phase.END)
+            {
+                CLIENT.flush();
+            }
+        }
+    }
+}
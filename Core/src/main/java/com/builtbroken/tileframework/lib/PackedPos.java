@@ -0,0 +1,98 @@
+package com.builtbroken.tileframework.lib;
+
+import com.builtbroken.mc.lib.transform.vector.Pos;
+
+/**
+ * Block position packed into a single long so it can be passed around without creating an object.
+ * Uses the same layout as the block positions in later versions of Minecraft: 26 bits of x, 12 bits
+ * of y and 26 bits of z. Covers the whole world border, and y values from -2048 to 2047.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class PackedPos
+{
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final int Y_SHIFT = XZ_BITS;
+    private static final int X_SHIFT = Y_SHIFT + Y_BITS;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1L;
+    private static final long Y_MASK = (1L << Y_BITS) - 1L;
+
+    private PackedPos()
+    {
+    }
+
+    /**
+     * Packs the position
+     *
+     * @param x - x position
+     * @param y - y position
+     * @param z - z position
+     * @return packed position
+     */
+    public static long pack(int x, int y, int z)
+    {
+        return (x & XZ_MASK) << X_SHIFT | (y & Y_MASK) << Y_SHIFT | (z & XZ_MASK);
+    }
+
+    /** Gets the x position from the packed position */
+    public static int getX(long pos)
+    {
+        return (int) (pos << (64 - X_SHIFT - XZ_BITS) >> (64 - XZ_BITS));
+    }
+
+    /** Gets the y position from the packed position */
+    public static int getY(long pos)
+    {
+        return (int) (pos << (64 - Y_SHIFT - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    /** Gets the z position from the packed position */
+    public static int getZ(long pos)
+    {
+        return (int) (pos << (64 - XZ_BITS) >> (64 - XZ_BITS));
+    }
+
+    /**
+     * Moves the packed position
+     *
+     * @param pos - packed position
+     * @param x   - distance to move on the x axis
+     * @param y   - distance to move on the y axis
+     * @param z   - distance to move on the z axis
+     * @return packed position
+     */
+    public static long offset(long pos, int x, int y, int z)
+    {
+        return pack(getX(pos) + x, getY(pos) + y, getZ(pos) + z);
+    }
+
+    /**
+     * Creates a {@link Pos} from the packed position, used to call hooks that still take one
+     *
+     * @param pos - packed position
+     * @return new Pos
+     */
+    public static Pos toPos(long pos)
+    {
+        return new Pos(getX(pos), getY(pos), getZ(pos));
+    }
+
+    /**
+     * Packs the block position of a {@link Pos}
+     *
+     * @param pos - position
+     * @return packed position
+     */
+    public static long pack(Pos pos)
+    {
+        return pack(pos.xi(), pos.yi(), pos.zi());
+    }
+
+    /** Formats the packed position as x,y,z */
+    public static String toString(long pos)
+    {
+        return getX(pos) + "," + getY(pos) + "," + getZ(pos);
+    }
+}
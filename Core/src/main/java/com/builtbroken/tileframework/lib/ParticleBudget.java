@@ -0,0 +1,154 @@
+package com.builtbroken.tileframework.lib;
+
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+
+import java.util.Random;
+
+/**
+ * Limits how many random display ticks, the calls tiles use to spawn particles, are run each
+ * client tick. Every call costs the weight set by its tile data, and calls are turned down once
+ * the weights used this tick reach the budget. Calls further from the player are also turned
+ * down at random, from none at {@link #fullDistance} up to {@link #maxDistance} where only
+ * {@link #minChance} of them are let through.
+ * <p/>
+ * Only counts weights and rolls chances, so it can be used without a world or renderer. The
+ * {@link #CLIENT} budget is reset at the start of each client tick once {@link #register()} is called.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class ParticleBudget
+{
+    public static final ParticleBudget CLIENT = new ParticleBudget(Integer.getInteger("tileframework.particles.budget", 200));
+
+    private static boolean registered = false;
+
+    /** Weight that can be used each tick */
+    public float budget;
+    /** Distance from the player inside which calls are not turned down by chance */
+    public double fullDistance = 8;
+    /** Distance from the player where calls reach {@link #minChance} */
+    public double maxDistance = 16;
+    /** Chance a call is let through at {@link #maxDistance} and further */
+    public float minChance = 0.25f;
+
+    /** Weight used this tick */
+    private float used = 0;
+    private int allowedThisTick = 0;
+    private int suppressedThisTick = 0;
+    private int allowedLastTick = 0;
+    private int suppressedLastTick = 0;
+    private long totalSuppressed = 0;
+
+    /**
+     * @param budget - weight that can be used each tick
+     */
+    public ParticleBudget(float budget)
+    {
+        this.budget = budget;
+    }
+
+    /** Registers the tick listener that resets {@link #CLIENT}, safe to call more than once */
+    public static synchronized void register()
+    {
+        if (!registered)
+        {
+            registered = true;
+            FMLCommonHandler.instance().bus().register(new Listener());
+        }
+    }
+
+    /**
+     * Checks if a display tick can run, using its weight from the budget if it can
+     *
+     * @param weight     - cost of the call, zero or less is never turned down
+     * @param distanceSq - distance squared from the player to the block
+     * @param random     - random used to roll the distance chance
+     * @return true if the call should run
+     */
+    public boolean tryUse(float weight, double distanceSq, Random random)
+    {
+        if (weight <= 0)
+        {
+            allowedThisTick++;
+            return true;
+        }
+        if (used + weight > budget || distanceSq > fullDistance * fullDistance && random.nextFloat() >= getChance(Math.sqrt(distanceSq)))
+        {
+            suppressedThisTick++;
+            totalSuppressed++;
+            return false;
+        }
+        used += weight;
+        allowedThisTick++;
+        return true;
+    }
+
+    /**
+     * Gets the chance a call at the distance is let through
+     *
+     * @param distance - distance from the player
+     * @return chance from {@link #minChance} to 1
+     */
+    public float getChance(double distance)
+    {
+        if (distance <= fullDistance)
+        {
+            return 1f;
+        }
+        if (distance >= maxDistance)
+        {
+            return minChance;
+        }
+        return (float) (1 - (distance - fullDistance) / (maxDistance - fullDistance) * (1 - minChance));
+    }
+
+    /** Starts a new tick, clearing the weight used */
+    public void reset()
+    {
+        allowedLastTick = allowedThisTick;
+        suppressedLastTick = suppressedThisTick;
+        allowedThisTick = 0;
+        suppressedThisTick = 0;
+        used = 0;
+    }
+
+    /** Weight used so far this tick */
+    public float getUsed()
+    {
+        return used;
+    }
+
+    /** Calls let through during the last tick */
+    public int getAllowedLastTick()
+    {
+        return allowedLastTick;
+    }
+
+    /** Calls turned down during the last tick */
+    public int getSuppressedLastTick()
+    {
+        return suppressedLastTick;
+    }
+
+    /** Calls turned down since the budget was created */
+    public long getTotalSuppressed()
+    {
+        return totalSuppressed;
+    }
+
+    /** Resets {@link #CLIENT} at the start of each client tick, before blocks near the player get display ticks */
+    public static final class Listener
+    {
+        @SubscribeEvent
+        public void onClientTick(TickEvent.ClientTickEvent event)
+        {
+            if (event.phase == TickEvent.Phase.START)
+            {
+                CLIENT.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.builtbroken.tileframework.lib;
+
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Gives rain to tiles at a steady rate instead of relying on the world's random rain callback,
+ * which only hits a block about once every 4000 ticks and costs a tile lookup each time. Tiles are
+ * added with the number of ticks between deliveries. Each delivery passes the number of ticks it
+ * has rained since the last one, if the tile is open to the sky and its biome gets rain. A tile
+ * that is covered gets nothing for that delivery.
+ * <p/>
+ * The biome check is the same one the world uses before its rain callback. Biomes without rain,
+ * such as deserts, and cold biomes where it snows instead both fail it.
+ * <p/>
+ * Sky exposure is read from the chunk's precipitation height map, which the chunk works out once
+ * per column and clears itself when a block in the column changes. Tiles in the same chunk as the
+ * last one checked reuse the chunk.
+ * <p/>
+ * There is one service per server world, only used from the server thread. Call {@link #register()}
+ * during init so the services are ticked, and dropped when their world unloads.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class RainService
+{
+    private static final Map<World, RainService> SERVICES = new WeakHashMap();
+
+    private static boolean registered = false;
+
+    private final World world;
+
+    /** Tiles getting rain, in the order they were added. Removed entries are cleared out while ticking */
+    private final ArrayList<Entry> entries = new ArrayList();
+    /** Entry of each tile, used to remove tiles */
+    private final IdentityHashMap<TileEntity, Entry> lookup = new IdentityHashMap();
+    /** Number of removed entries still in {@link #entries} */
+    private int removed = 0;
+
+    /** Number of ticks it has rained in the world since the service was created */
+    private long rainTicks = 0;
+    /** World time of the last tick, used to only tick once per world tick */
+    private long lastTick = Long.MIN_VALUE;
+
+    //Stats
+    private int deliveredLastTick = 0;
+
+    private RainService(World world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * Gets the service for the world, creating it if needed
+     *
+     * @param world - server world
+     * @return service
+     */
+    public static RainService get(World world)
+    {
+        RainService service = SERVICES.get(world);
+        if (service == null)
+        {
+            service = new RainService(world);
+            SERVICES.put(world, service);
+        }
+        return service;
+    }
+
+    /**
+     * Gets the service for the world without creating one
+     *
+     * @param world - server world
+     * @return service, or null if the world has none
+     */
+    public static RainService getExisting(World world)
+    {
+        return SERVICES.get(world);
+    }
+
+    /**
+     * Drops the service of the world, along with the tiles in it
+     *
+     * @param world - world being unloaded
+     */
+    public static void unload(World world)
+    {
+        final RainService service = SERVICES.remove(world);
+        if (service != null)
+        {
+            service.entries.clear();
+            service.lookup.clear();
+            service.removed = 0;
+        }
+    }
+
+    /**
+     * Ticks the service of the world if it has one
+     *
+     * @param world - world that just ticked
+     */
+    public static void tick(World world)
+    {
+        if (!world.isRemote)
+        {
+            final RainService service = SERVICES.get(world);
+            if (service != null)
+            {
+                service.tick();
+            }
+        }
+    }
+
+    /** Registers the listener that ticks the services and drops them with their world, safe to call more than once */
+    public static synchronized void register()
+    {
+        if (!registered)
+        {
+            registered = true;
+            Listener listener = new Listener();
+            FMLCommonHandler.instance().bus().register(listener);
+            MinecraftForge.EVENT_BUS.register(listener);
+        }
+    }
+
+    /**
+     * Adds a tile to get rain. Does nothing if the tile was already added.
+     *
+     * @param tile     - tile, needs to be in this service's world
+     * @param handler  - handler to pass the rain to, normally the tile's block
+     * @param interval - ticks between deliveries
+     */
+    public void add(TileEntity tile, Handler handler, int interval)
+    {
+        if (!lookup.containsKey(tile))
+        {
+            Entry entry = new Entry(tile, handler, Math.max(1, interval));
+            entry.nextDelivery = world.getTotalWorldTime() + entry.interval;
+            entry.rainMark = rainTicks;
+            entries.add(entry);
+            lookup.put(tile, entry);
+        }
+    }
+
+    /**
+     * Removes a tile, call when the tile is removed or its chunk unloads
+     *
+     * @param tile - tile
+     */
+    public void remove(TileEntity tile)
+    {
+        final Entry entry = lookup.remove(tile);
+        if (entry != null)
+        {
+            entry.tile = null;
+            removed++;
+        }
+    }
+
+    /** Counts rain and delivers it to tiles that are due, only runs once per world time */
+    public void tick()
+    {
+        final long time = world.getTotalWorldTime();
+        if (time == lastTick)
+        {
+            return;
+        }
+        lastTick = time;
+        deliveredLastTick = 0;
+
+        final boolean raining = world.isRaining();
+        if (raining)
+        {
+            rainTicks++;
+        }
+        else if (removed == 0)
+        {
+            //Nothing to deliver while dry, due tiles get all of it once it starts raining again
+            return;
+        }
+
+        //Handlers may add or remove tiles, only entries that existed before the tick are looked at.
+        //Tiles removed during the loop are counted again and cleared out next tick.
+        removed = 0;
+        final int size = entries.size();
+        int write = 0;
+        Chunk chunk = null;
+        for (int read = 0; read < size; read++)
+        {
+            final Entry entry = entries.get(read);
+            if (entry.tile == null)
+            {
+                continue;
+            }
+            if (raining && time >= entry.nextDelivery)
+            {
+                entry.nextDelivery = time + entry.interval;
+                final int amount = (int) Math.min(Integer.MAX_VALUE, rainTicks - entry.rainMark);
+                entry.rainMark = rainTicks;
+
+                final TileEntity tile = entry.tile;
+                if (chunk == null || chunk.xPosition != tile.xCoord >> 4 || chunk.zPosition != tile.zCoord >> 4)
+                {
+                    chunk = world.getChunkFromBlockCoords(tile.xCoord, tile.zCoord);
+                }
+                if (amount > 0 && !tile.isInvalid()
+                        && world.getBiomeGenForCoords(tile.xCoord, tile.zCoord).canSpawnLightningBolt()
+                        && chunk.getPrecipitationHeight(tile.xCoord & 15, tile.zCoord & 15) == tile.yCoord + 1)
+                {
+                    entry.handler.onRain(world, tile, amount);
+                    deliveredLastTick++;
+                }
+            }
+            //Entry may have been removed by its own handler
+            if (entry.tile != null)
+            {
+                entries.set(write++, entry);
+            }
+        }
+        //Keep entries added while ticking
+        for (int read = size; read < entries.size(); read++)
+        {
+            entries.set(write++, entries.get(read));
+        }
+        for (int i = entries.size() - 1; i >= write; i--)
+        {
+            entries.remove(i);
+        }
+    }
+
+    /** Number of ticks it has rained since the service was created */
+    public long getRainTicks()
+    {
+        return rainTicks;
+    }
+
+    /** Number of tiles given rain during the last tick */
+    public int getDeliveredLastTick()
+    {
+        return deliveredLastTick;
+    }
+
+    /** Number of tiles getting rain */
+    public int size()
+    {
+        return lookup.size();
+    }
+
+    /** Receives rain for tiles added to the service */
+    public interface Handler
+    {
+        /**
+         * Called when a tile is due and open to the sky
+         *
+         * @param world     - world
+         * @param tile      - tile getting rain
+         * @param rainTicks - number of ticks it has rained since the last delivery to the tile
+         */
+        void onRain(World world, TileEntity tile, int rainTicks);
+    }
+
+    private static final class Entry
+    {
+        TileEntity tile;
+        final Handler handler;
+        final int interval;
+        /** World time of the next delivery */
+        long nextDelivery;
+        /** Value of {@link #rainTicks} at the last delivery */
+        long rainMark;
+
+        Entry(TileEntity tile, Handler handler, int interval)
+        {
+            this.tile = tile;
+            this.handler = handler;
+            this.interval = interval;
+        }
+    }
+
+    /**
+     * Ticks the services at the end of each world tick, and drops the service of each world as it
+     * unloads. The map only holds worlds weakly but the services hold them strongly.
+     */
+    public static final class Listener
+    {
+        @SubscribeEvent
+        public void onWorldTick(TickEvent.WorldTickEvent event)
+        {
+            if (event.phase == TickEvent.Phase.END)
+            {
+                tick(event.world);
+            }
+        }
+
+        @SubscribeEvent
+        public void onWorldUnload(WorldEvent.Unload event)
+        {
+            unload(event.world);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.builtbroken.tileframework.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that writes all classes marked with {@link com.builtbroken.tileframework.api.Tile}
+ * to {@code META-INF/tileframework/<module>.index}. The module name is set with the compiler
+ * option {@code -Atileframework.module=name} and defaults to {@value #DEFAULT_MODULE}.
+ * <p/>
+ * Each line of the index is {@code tileClass dataClass [id]} using binary class names.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+@SupportedAnnotationTypes(TileIndexProcessor.ANNOTATION)
+@SupportedOptions(TileIndexProcessor.MODULE_OPTION)
+public class TileIndexProcessor extends AbstractProcessor
+{
+    public static final String ANNOTATION = "com.builtbroken.tileframework.api.Tile";
+    public static final String MODULE_OPTION = "tileframework.module";
+    public static final String DEFAULT_MODULE = "tiles";
+    public static final String INDEX_FOLDER = "META-INF/tileframework/";
+    public static final String HEADER = "#TileFramework index v1";
+
+    /** Lines collected over all rounds, written once processing is over */
+    private final List<String> entries = new ArrayList();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        if (roundEnv.processingOver())
+        {
+            writeIndex();
+            return false;
+        }
+
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation == null)
+        {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+        {
+            if (element.getKind() != ElementKind.CLASS)
+            {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@Tile can only be used on classes", element);
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            String data = null;
+            String id = "";
+            for (AnnotationMirror mirror : type.getAnnotationMirrors())
+            {
+                if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ANNOTATION))
+                {
+                    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet())
+                    {
+                        String name = entry.getKey().getSimpleName().toString();
+                        if ("data".equals(name))
+                        {
+                            TypeMirror dataType = (TypeMirror) entry.getValue().getValue();
+                            data = processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) dataType).asElement()).toString();
+                        }
+                        else if ("id".equals(name))
+                        {
+                            id = (String) entry.getValue().getValue();
+                        }
+                    }
+                }
+            }
+            if (data == null)
+            {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@Tile is missing its data class", element);
+                continue;
+            }
+            if (id.indexOf(' ') >= 0)
+            {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@Tile id can not contain spaces", element);
+                continue;
+            }
+            String tile = processingEnv.getElementUtils().getBinaryName(type).toString();
+            entries.add(id.isEmpty() ? tile + " " + data : tile + " " + data + " " + id);
+        }
+        return true;
+    }
+
+    private void writeIndex()
+    {
+        if (entries.isEmpty())
+        {
+            return;
+        }
+        String module = processingEnv.getOptions().get(MODULE_OPTION);
+        if (module == null || module.isEmpty())
+        {
+            module = DEFAULT_MODULE;
+        }
+        try
+        {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_FOLDER + module + ".index");
+            Writer writer = file.openWriter();
+            try
+            {
+                writer.write(HEADER);
+                writer.write('\n');
+                for (String entry : entries)
+                {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+            finally
+            {
+                writer.close();
+            }
+        }
+        catch (IOException e)
+        {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write tile index, " + e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.builtbroken.tileframework.profiler;
+
+import com.builtbroken.tileframework.lib.CollisionDispatcher;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ChatComponentText;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Controls the {@link TileProfiler} in game. Register from the server starting event.
+ * <p/>
+ * Usage: /tileprofiler start|stop|reset|mode time|alloc|top [count]|dump [file]|collisions|jfc
+ * <p/>
+ * Reports are always saved to the {@value #DUMP_FOLDER} folder of the server. The file given to
+ * dump is only a name, paths are refused so the command can't write anywhere else. The jfc
+ * option writes the {@value #JFC_FILE} flight recorder settings out of the jar into the same
+ * folder, so they can be passed to the JVM on the next start.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class CommandTileProfiler extends CommandBase
+{
+    /** Folder in the server directory that reports are saved to */
+    public static final String DUMP_FOLDER = "tileprofiler";
+    /** Flight recorder settings shipped in the jar, see {@link TileEvents} */
+    public static final String JFC_FILE = "tileframework.jfc";
+
+    @Override
+    public String getCommandName()
+    {
+        return "tileprofiler";
+    }
+
+    @Override
+    public String getCommandUsage(ICommandSender sender)
+    {
+        return "/tileprofiler start|stop|reset|mode time|alloc|top [count]|dump [file]|collisions|jfc";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel()
+    {
+        return 2;
+    }
+
+    @Override
+    public void processCommand(ICommandSender sender, String[] args)
+    {
+        if (args.length == 0)
+        {
+            throw new WrongUsageException(getCommandUsage(sender));
+        }
+        if (args[0].equalsIgnoreCase("start"))
+        {
+            TileProfiler.setEnabled(true);
+            sender.addChatMessage(new ChatComponentText("Tile profiler started"));
+        }
+        else if (args[0].equalsIgnoreCase("stop"))
+        {
+            TileProfiler.setEnabled(false);
+            sender.addChatMessage(new ChatComponentText("Tile profiler stopped"));
+        }
+        else if (args[0].equalsIgnoreCase("reset"))
+        {
+            TileProfiler.reset();
+            CollisionDispatcher.SERVER.resetStats();
+            sender.addChatMessage(new ChatComponentText("Tile profiler reset"));
+        }
+        else if (args[0].equalsIgnoreCase("mode") && args.length > 1)
+        {
+            boolean alloc = args[1].equalsIgnoreCase("alloc");
+            if (!alloc && !args[1].equalsIgnoreCase("time"))
+            {
+                throw new WrongUsageException(getCommandUsage(sender));
+            }
+            if (TileProfiler.setAllocationMode(alloc))
+            {
+                TileProfiler.reset();
+                final String counting = "Tile profiler now counting " + (alloc ? "allocated bytes" : "time") + ", stats reset";
+                sender.addChatMessage(new ChatComponentText(TileProfiler.isEnabled() ? counting : counting + ", not running until /tileprofiler start"));
+            }
+            else
+            {
+                sender.addChatMessage(new ChatComponentText("This JVM can't count allocated bytes per thread"));
+            }
+        }
+        else if (args[0].equalsIgnoreCase("top"))
+        {
+            int count = args.length > 1 ? parseIntBounded(sender, args[1], 1, 50) : 5;
+            List<String> lines = TileProfiler.isAllocationMode() ? TileProfiler.allocationReport(count) : TileProfiler.report();
+            for (int i = 0; i < lines.size() && i <= count; i++)
+            {
+                sender.addChatMessage(new ChatComponentText(lines.get(i)));
+            }
+        }
+        else if (args[0].equalsIgnoreCase("dump"))
+        {
+            String name = args.length > 1 ? args[1] : "tileprofiler-" + System.currentTimeMillis() + ".txt";
+            if (!isPlainFileName(name))
+            {
+                throw new WrongUsageException("Report name can only be a file name, it is saved to the " + DUMP_FOLDER + " folder");
+            }
+            File file = new File(MinecraftServer.getServer().getFile(DUMP_FOLDER), name);
+            try
+            {
+                TileProfiler.dump(file);
+                sender.addChatMessage(new ChatComponentText("Tile profiler report saved to " + file.getAbsolutePath()));
+            }
+            catch (IOException e)
+            {
+                sender.addChatMessage(new ChatComponentText("Failed to save tile profiler report: " + e.getMessage()));
+            }
+        }
+        else if (args[0].equalsIgnoreCase("collisions"))
+        {
+            CollisionDispatcher dispatcher = CollisionDispatcher.SERVER;
+            sender.addChatMessage(new ChatComponentText(String.format("Collisions last tick: %d passed on, %d on cooldown", dispatcher.getContactsLastTick(), dispatcher.getSuppressedLastTick())));
+            sender.addChatMessage(new ChatComponentText(String.format("Average per tick: %.1f passed on, %.1f on cooldown, %d positions tracked", dispatcher.getAverageContacts(), dispatcher.getAverageSuppressed(), dispatcher.getTrackedPositions())));
+        }
+        else if (args[0].equalsIgnoreCase("jfc"))
+        {
+            File file = new File(MinecraftServer.getServer().getFile(DUMP_FOLDER), JFC_FILE);
+            try
+            {
+                writeSettings(file);
+                sender.addChatMessage(new ChatComponentText("Flight recorder settings saved to " + file.getAbsolutePath()));
+                sender.addChatMessage(new ChatComponentText("Start the server with -XX:StartFlightRecording=settings=" + file.getAbsolutePath() + ",filename=tiles.jfr"));
+            }
+            catch (IOException e)
+            {
+                sender.addChatMessage(new ChatComponentText("Failed to save flight recorder settings: " + e.getMessage()));
+            }
+        }
+        else
+        {
+            throw new WrongUsageException(getCommandUsage(sender));
+        }
+    }
+
+    /**
+     * Copies the {@value #JFC_FILE} settings out of the jar, the JVM can only read them from disk
+     *
+     * @param file - file to write, replaced if it exists
+     * @throws IOException if the settings are missing from the jar or the file could not be written
+     */
+    static void writeSettings(File file) throws IOException
+    {
+        File folder = file.getAbsoluteFile().getParentFile();
+        if (folder != null && !folder.exists() && !folder.mkdirs())
+        {
+            throw new IOException("Failed to create folder " + folder);
+        }
+        InputStream in = CommandTileProfiler.class.getResourceAsStream("/" + JFC_FILE);
+        if (in == null)
+        {
+            throw new IOException(JFC_FILE + " is missing from the jar");
+        }
+        try
+        {
+            Files.copy(in, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        finally
+        {
+            in.close();
+        }
+    }
+
+    /**
+     * Checks the name has no path in it, so the file it names stays inside its folder
+     *
+     * @param name - file name given by the player
+     * @return true if the name is safe to use as a file in {@link #DUMP_FOLDER}
+     */
+    static boolean isPlainFileName(String name)
+    {
+        if (name.isEmpty() || name.length() > 128 || name.startsWith(".") || name.contains(".."))
+        {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++)
+        {
+            char c = name.charAt(i);
+            if (c == '/' || c == '\\' || c == ':' || c < 32)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List addTabCompletionOptions(ICommandSender sender, String[] args)
+    {
+        return args.length == 1 ? getListOfStringsMatchingLastWord(args, "start", "stop", "reset", "mode", "top", "dump", "collisions", "jfc") : args.length == 2 && args[0].equalsIgnoreCase("mode") ? getListOfStringsMatchingLastWord(args, "time", "alloc") : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.builtbroken.tileframework.profiler;
+
+/**
+ * Hooks timed by the {@link TileProfiler}
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public enum Hook
+{
+    /** Tile update called each tick */
+    UPDATE,
+    /** Collision boxes, selection bounds and entity collision */
+    COLLISION,
+    /** Neighbor block or tile changed */
+    NEIGHBOR_CHANGE,
+    /** Weak and strong redstone power */
+    REDSTONE,
+    /** Light value */
+    LIGHT,
+    /** Icons, color and side checks done while rendering */
+    RENDER,
+    /** Player right click, includes anything the tile does such as getClickedFace */
+    ACTIVATE,
+    /** Explosion resistance at a position */
+    EXPLOSION,
+    /** Item drops when broken */
+    DROPS;
+
+    /** Cached copy of {@link #values()} to avoid creating a new array each call */
+    public static final Hook[] HOOKS = values();
+}
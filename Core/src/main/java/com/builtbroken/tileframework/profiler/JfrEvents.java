@@ -0,0 +1,148 @@
+package com.builtbroken.tileframework.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event classes, kept apart from {@link TileEvents} so nothing
+ * touches jdk.jfr unless it exists
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+final class JfrEvents
+{
+    static final String PREFIX = "tileframework.";
+
+    private static EventType tickType;
+    private static EventType hookType;
+    private static EventType packetType;
+    private static EventType nbtType;
+
+    private JfrEvents()
+    {
+    }
+
+    static void init()
+    {
+        tickType = EventType.getEventType(TileTickEvent.class);
+        hookType = EventType.getEventType(HookDispatchEvent.class);
+        packetType = EventType.getEventType(PacketSendEvent.class);
+        nbtType = EventType.getEventType(NbtSaveEvent.class);
+        FlightRecorder.addListener(new FlightRecorderListener()
+        {
+            @Override
+            public void recordingStateChanged(Recording recording)
+            {
+                update();
+            }
+        });
+        update();
+    }
+
+    static void update()
+    {
+        TileEvents.setEnabled(tickType.isEnabled(), hookType.isEnabled(), packetType.isEnabled(), nbtType.isEnabled());
+    }
+
+    static void tick(String tile, int x, int y, int z, long nanos)
+    {
+        TileTickEvent event = new TileTickEvent();
+        event.tile = tile;
+        event.x = x;
+        event.y = y;
+        event.z = z;
+        event.time = nanos;
+        event.commit();
+    }
+
+    static void hook(String tile, Hook hook, int x, int y, int z, long nanos)
+    {
+        HookDispatchEvent event = new HookDispatchEvent();
+        event.tile = tile;
+        event.hook = hook.name();
+        event.x = x;
+        event.y = y;
+        event.z = z;
+        event.time = nanos;
+        event.commit();
+    }
+
+    static void packetSend(String tile, int x, int y, int z, long nanos)
+    {
+        PacketSendEvent event = new PacketSendEvent();
+        event.tile = tile;
+        event.x = x;
+        event.y = y;
+        event.z = z;
+        event.time = nanos;
+        event.commit();
+    }
+
+    static void nbtSave(String tile, int x, int y, int z, long nanos)
+    {
+        NbtSaveEvent event = new NbtSaveEvent();
+        event.tile = tile;
+        event.x = x;
+        event.y = y;
+        event.z = z;
+        event.time = nanos;
+        event.commit();
+    }
+
+    /** Fields shared by all tile events, time is measured by the caller so the event's own duration is not used */
+    @Category("Tile Framework")
+    @StackTrace(false)
+    abstract static class TileEvent extends Event
+    {
+        @Label("Tile")
+        String tile;
+
+        @Label("X")
+        int x;
+
+        @Label("Y")
+        int y;
+
+        @Label("Z")
+        int z;
+
+        @Label("Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long time;
+    }
+
+    @Name(PREFIX + "TileTick")
+    @Label("Tile Tick")
+    static final class TileTickEvent extends TileEvent
+    {
+    }
+
+    @Name(PREFIX + "HookDispatch")
+    @Label("Block Hook Dispatch")
+    static final class HookDispatchEvent extends TileEvent
+    {
+        @Label("Hook")
+        String hook;
+    }
+
+    @Name(PREFIX + "PacketSend")
+    @Label("Tile Packet Send")
+    static final class PacketSendEvent extends TileEvent
+    {
+    }
+
+    @Name(PREFIX + "NbtSave")
+    @Label("Tile NBT Save")
+    static final class NbtSaveEvent extends TileEvent
+    {
+    }
+}
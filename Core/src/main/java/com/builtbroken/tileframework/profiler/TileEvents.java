@@ -0,0 +1,113 @@
+package com.builtbroken.tileframework.profiler;
+
+import org.apache.logging.log4j.LogManager;
+
+/**
+ * Emits Java Flight Recorder events for tile ticks, hook dispatch, packet sends and NBT saves so they
+ * can be lined up with GC and lock events in the same recording. Needs a JVM with jdk.jfr, Java 8u272
+ * or newer. On older JVMs nothing is emitted and the flags stay false.
+ * <p/>
+ * Each flag is only true while a recording has the matching event enabled, so callers check the
+ * flag before timing anything. Flags are updated by a recorder listener when recordings start or stop.
+ * Use the tileframework.jfc profile in this jar to record the events along with GC and lock events,
+ * {@code /tileprofiler jfc} writes it to disk where the JVM can read it. Use {@link TileRecordingReport}
+ * to sum a recording up by tile type.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TileEvents
+{
+    /** True if jdk.jfr was found */
+    public static final boolean AVAILABLE;
+
+    /** Tile tick events are being recorded */
+    static volatile boolean tickEnabled = false;
+    /** Hook dispatch events are being recorded */
+    static volatile boolean hookEnabled = false;
+    /** Packet send events are being recorded */
+    public static volatile boolean packetEnabled = false;
+    /** NBT save events are being recorded */
+    public static volatile boolean nbtEnabled = false;
+
+    /** Tick and hook calls faster than this in nanoseconds are not recorded, JFR thresholds don't apply to these events */
+    public static long thresholdNanos = Long.getLong("tileframework.events.threshold", 0L);
+
+    static
+    {
+        boolean available = false;
+        try
+        {
+            Class.forName("jdk.jfr.Event");
+            JfrEvents.init();
+            available = true;
+        }
+        catch (Throwable t)
+        {
+            LogManager.getLogger("TileFramework").info("Java Flight Recorder not found, tile events are disabled");
+        }
+        AVAILABLE = available;
+    }
+
+    private TileEvents()
+    {
+    }
+
+    /** Called by the recorder listener to update the flags */
+    static void setEnabled(boolean tick, boolean hook, boolean packet, boolean nbt)
+    {
+        tickEnabled = tick;
+        hookEnabled = hook;
+        packetEnabled = packet;
+        nbtEnabled = nbt;
+        TileProfiler.updateActive();
+    }
+
+    /**
+     * Records a tile tick or hook call, tick if the hook is {@link Hook#UPDATE}
+     *
+     * @param tile  - mod domain and name of the tile
+     * @param hook  - hook called
+     * @param nanos - time the call took
+     */
+    public static void hook(String tile, Hook hook, int x, int y, int z, long nanos)
+    {
+        if (nanos < thresholdNanos)
+        {
+            return;
+        }
+        if (hook == Hook.UPDATE)
+        {
+            if (tickEnabled)
+            {
+                JfrEvents.tick(tile, x, y, z, nanos);
+            }
+        }
+        else if (hookEnabled)
+        {
+            JfrEvents.hook(tile, hook, x, y, z, nanos);
+        }
+    }
+
+    /**
+     * Records a packet sent by a tile, check {@link #packetEnabled} first
+     *
+     * @param tile  - mod domain and name of the tile
+     * @param nanos - time taken to build and send the packet
+     */
+    public static void packetSend(String tile, int x, int y, int z, long nanos)
+    {
+        JfrEvents.packetSend(tile, x, y, z, nanos);
+    }
+
+    /**
+     * Records a tile being saved to NBT, check {@link #nbtEnabled} first
+     *
+     * @param tile  - mod domain and name of the tile
+     * @param nanos - time taken to write the tile
+     */
+    public static void nbtSave(String tile, int x, int y, int z, long nanos)
+    {
+        JfrEvents.nbtSave(tile, x, y, z, nanos);
+    }
+}
@@ -0,0 +1,345 @@
+package com.builtbroken.tileframework.profiler;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Optional timing of tile updates and block hooks per tile type. Disabled by default, in which
+ * case each hook only pays for a single flag check. Enable with the tileframework.profiler
+ * system property or the {@link CommandTileProfiler} command. Hooks are also timed while a flight
+ * recording has the tile events enabled, see {@link TileEvents}.
+ * <p/>
+ * In allocation mode the same calls count the bytes each hook allocates, using the thread
+ * allocation counter of the JVM, instead of timing it. Used to find hooks that create garbage
+ * on every call. Flight recorder tick and hook events are not sent while in this mode.
+ * <p/>
+ * Hooks are timed with:
+ * <pre>
+ * final long start = TileProfiler.start();
+ * ...
+ * if (start != 0) TileProfiler.end(stats, Hook.UPDATE, start, x, y, z);
+ * </pre>
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TileProfiler
+{
+    /** Set to record hook times into the {@link TileStats} */
+    private static volatile boolean enabled = Boolean.getBoolean("tileframework.profiler");
+    /** Set if hooks need to be timed for the stats or for flight recorder events */
+    private static volatile boolean active;
+    /** Set to record allocated bytes instead of time */
+    private static volatile boolean allocationMode = false;
+
+    /** Thread bean used to read allocated bytes, null if the JVM doesn't support it */
+    private static final com.sun.management.ThreadMXBean allocationBean = getAllocationBean();
+    /** Bytes allocated by reading the counter itself, removed from each result */
+    private static final long allocationOverhead = measureAllocationOverhead();
+
+    private static final ConcurrentHashMap<String, TileStats> stats = new ConcurrentHashMap();
+
+    static
+    {
+        //Also loads the flight recorder events so the flags follow recordings
+        updateActive();
+    }
+
+    private TileProfiler()
+    {
+    }
+
+    /** True if hook times are being recorded into the stats */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /** Starts or stops recording hook times into the stats */
+    public static void setEnabled(boolean value)
+    {
+        enabled = value;
+        updateActive();
+    }
+
+    /** True if hooks are counting allocated bytes instead of time */
+    public static boolean isAllocationMode()
+    {
+        return allocationMode;
+    }
+
+    /**
+     * Switches between counting allocated bytes and timing hooks. Calls running while
+     * the mode changes are recorded with a wrong value, reset after switching. Only
+     * changes what is recorded, use {@link #setEnabled(boolean)} to start recording.
+     *
+     * @param value - true to count allocated bytes
+     * @return false if the JVM can't count allocated bytes per thread
+     */
+    public static boolean setAllocationMode(boolean value)
+    {
+        if (value && allocationBean == null)
+        {
+            return false;
+        }
+        allocationMode = value;
+        updateActive();
+        return true;
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationBean()
+    {
+        try
+        {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported())
+            {
+                ((com.sun.management.ThreadMXBean) bean).setThreadAllocatedMemoryEnabled(true);
+                return (com.sun.management.ThreadMXBean) bean;
+            }
+        }
+        catch (Throwable t)
+        {
+            //Not a HotSpot style JVM
+        }
+        return null;
+    }
+
+    private static long measureAllocationOverhead()
+    {
+        if (allocationBean == null)
+        {
+            return 0;
+        }
+        //Some JVMs create arrays to read the counter, take the smallest of a few reads
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 16; i++)
+        {
+            long start = allocatedBytes();
+            overhead = Math.min(overhead, allocatedBytes() - start);
+        }
+        return Math.max(0, overhead);
+    }
+
+    /** Bytes allocated by the current thread so far */
+    private static long allocatedBytes()
+    {
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /** Flight recorder events are not sent in allocation mode, so only the stats need hooks measured then */
+    static void updateActive()
+    {
+        active = enabled || !allocationMode && (TileEvents.tickEnabled || TileEvents.hookEnabled);
+    }
+
+    /**
+     * Called at the start of a hook
+     *
+     * @return start time or allocated bytes, 0 if profiling is disabled
+     */
+    public static long start()
+    {
+        if (active)
+        {
+            return allocationMode ? allocatedBytes() : System.nanoTime();
+        }
+        return 0L;
+    }
+
+    /**
+     * Called at the end of a hook
+     *
+     * @param stats - stats of the tile type
+     * @param hook  - hook being timed
+     * @param start - value returned by {@link #start()}, nothing is recorded if 0
+     * @param x     - position of the block, used by the flight recorder events
+     * @param y     - position of the block
+     * @param z     - position of the block
+     */
+    public static void end(TileStats stats, Hook hook, long start, int x, int y, int z)
+    {
+        if (start != 0L)
+        {
+            if (allocationMode)
+            {
+                stats.recordAllocation(hook, allocatedBytes() - start - allocationOverhead);
+                return;
+            }
+            final long nanos = System.nanoTime() - start;
+            if (enabled)
+            {
+                stats.record(hook, nanos);
+            }
+            TileEvents.hook(stats.name, hook, x, y, z, nanos);
+        }
+    }
+
+    /**
+     * Gets the stats for the tile type, creating them if missing
+     *
+     * @param name - mod domain and name of the tile
+     * @return stats, same instance for the same name
+     */
+    public static TileStats getStats(String name)
+    {
+        TileStats value = stats.get(name);
+        if (value == null)
+        {
+            TileStats created = new TileStats(name);
+            value = stats.putIfAbsent(name, created);
+            if (value == null)
+            {
+                value = created;
+            }
+        }
+        return value;
+    }
+
+    /** Clears the counters of all tile types */
+    public static void reset()
+    {
+        for (TileStats value : stats.values())
+        {
+            value.reset();
+        }
+    }
+
+    /**
+     * Gets the stats of every tile type that has been called, sorted by total time with the most first
+     *
+     * @return new list of stats
+     */
+    public static List<TileStats> getSortedStats()
+    {
+        List<TileStats> list = new ArrayList();
+        for (TileStats value : stats.values())
+        {
+            if (value.getTotalNanos() > 0)
+            {
+                list.add(value);
+            }
+        }
+        Collections.sort(list, new Comparator<TileStats>()
+        {
+            @Override
+            public int compare(TileStats a, TileStats b)
+            {
+                return Long.compare(b.getTotalNanos(), a.getTotalNanos());
+            }
+        });
+        return list;
+    }
+
+    /**
+     * Builds the report, one line per tile type and hook
+     *
+     * @return lines of the report
+     */
+    public static List<String> report()
+    {
+        List<String> lines = new ArrayList();
+        lines.add(String.format("%-40s %-16s %12s %12s %10s %10s %10s", "tile", "hook", "calls", "total ms", "avg ns", "p50 ns", "p99 ns"));
+        for (TileStats value : getSortedStats())
+        {
+            for (Hook hook : Hook.HOOKS)
+            {
+                long count = value.getCount(hook);
+                if (count > 0)
+                {
+                    long total = value.getTotalNanos(hook);
+                    lines.add(String.format("%-40s %-16s %12d %12.3f %10d %10d %10d", value.name, hook.name(), count, total / 1e6, total / count,
+                            value.getPercentile(hook, 0.5), value.getPercentile(hook, 0.99)));
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Builds the allocation report, one line per tile type and hook sorted by bytes per call with the worst first
+     *
+     * @param max - max number of lines after the header
+     * @return lines of the report
+     */
+    public static List<String> allocationReport(int max)
+    {
+        final List<Object[]> rows = new ArrayList();
+        for (TileStats value : stats.values())
+        {
+            for (Hook hook : Hook.HOOKS)
+            {
+                long count = value.getAllocationCount(hook);
+                if (count > 0)
+                {
+                    long bytes = value.getAllocatedBytes(hook);
+                    rows.add(new Object[]{value.name, hook, count, bytes, bytes / count});
+                }
+            }
+        }
+        Collections.sort(rows, new Comparator<Object[]>()
+        {
+            @Override
+            public int compare(Object[] a, Object[] b)
+            {
+                return Long.compare((Long) b[4], (Long) a[4]);
+            }
+        });
+
+        List<String> lines = new ArrayList();
+        lines.add(String.format("%-40s %-16s %12s %12s %14s", "tile", "hook", "calls", "bytes/call", "total MB"));
+        for (int i = 0; i < rows.size() && i < max; i++)
+        {
+            Object[] row = rows.get(i);
+            lines.add(String.format("%-40s %-16s %12d %12d %14.3f", row[0], ((Hook) row[1]).name(), row[2], row[4], (Long) row[3] / (1024.0 * 1024.0)));
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the report to the file
+     *
+     * @param file - file to write, replaced if it exists
+     * @throws IOException if the file could not be written
+     */
+    public static void dump(File file) throws IOException
+    {
+        File folder = file.getAbsoluteFile().getParentFile();
+        if (folder != null && !folder.exists() && !folder.mkdirs())
+        {
+            throw new IOException("Failed to create folder " + folder);
+        }
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+        try
+        {
+            for (String line : report())
+            {
+                writer.println(line);
+            }
+            List<String> allocations = allocationReport(Integer.MAX_VALUE);
+            if (allocations.size() > 1)
+            {
+                writer.println();
+                writer.println("Allocations");
+                for (String line : allocations)
+                {
+                    writer.println(line);
+                }
+            }
+        }
+        finally
+        {
+            writer.close();
+        }
+    }
+}
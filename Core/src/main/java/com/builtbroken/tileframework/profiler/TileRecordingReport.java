@@ -0,0 +1,118 @@
+package com.builtbroken.tileframework.profiler;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a flight recording and sums the tile framework events by tile type, event and hook.
+ * Lines are sorted by total time with the most first.
+ * <p/>
+ * Usage: TileRecordingReport &lt;recording.jfr&gt; [max lines]
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class TileRecordingReport
+{
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length == 0)
+        {
+            System.out.println("Usage: TileRecordingReport <recording.jfr> [max lines]");
+            return;
+        }
+        int max = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+        for (String line : report(new File(args[0]), max))
+        {
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Builds the report for the recording
+     *
+     * @param file - recording file
+     * @param max  - max number of entries
+     * @return lines of the report
+     * @throws IOException if the recording could not be read
+     */
+    public static List<String> report(File file, int max) throws IOException
+    {
+        final Map<String, Entry> entries = new HashMap();
+        RecordingFile recording = new RecordingFile(file.toPath());
+        try
+        {
+            while (recording.hasMoreEvents())
+            {
+                RecordedEvent event = recording.readEvent();
+                String name = event.getEventType().getName();
+                if (name.startsWith(JfrEvents.PREFIX))
+                {
+                    String type = name.substring(JfrEvents.PREFIX.length());
+                    if (event.hasField("hook"))
+                    {
+                        type += " " + event.getString("hook");
+                    }
+                    String key = event.getString("tile") + " " + type;
+                    Entry entry = entries.get(key);
+                    if (entry == null)
+                    {
+                        entry = new Entry(event.getString("tile"), type);
+                        entries.put(key, entry);
+                    }
+                    long time = event.getLong("time");
+                    entry.count++;
+                    entry.total += time;
+                    entry.max = Math.max(entry.max, time);
+                }
+            }
+        }
+        finally
+        {
+            recording.close();
+        }
+
+        List<Entry> sorted = new ArrayList(entries.values());
+        Collections.sort(sorted, new Comparator<Entry>()
+        {
+            @Override
+            public int compare(Entry a, Entry b)
+            {
+                return Long.compare(b.total, a.total);
+            }
+        });
+
+        List<String> lines = new ArrayList();
+        lines.add(String.format("%-40s %-28s %12s %12s %10s %12s", "tile", "event", "count", "total ms", "avg ns", "max ns"));
+        for (int i = 0; i < sorted.size() && i < max; i++)
+        {
+            Entry entry = sorted.get(i);
+            lines.add(String.format("%-40s %-28s %12d %12.3f %10d %12d", entry.tile, entry.type, entry.count, entry.total / 1e6, entry.total / entry.count, entry.max));
+        }
+        return lines;
+    }
+
+    private static final class Entry
+    {
+        final String tile;
+        final String type;
+        long count;
+        long total;
+        long max;
+
+        Entry(String tile, String type)
+        {
+            this.tile = tile;
+            this.type = type;
+        }
+    }
+}
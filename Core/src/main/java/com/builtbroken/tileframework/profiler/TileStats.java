@@ -0,0 +1,162 @@
+package com.builtbroken.tileframework.profiler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation counts and times for each {@link Hook} of a single tile type. Counters are striped
+ * so hooks called from the server and client threads at the same time don't contend. Bytes
+ * allocated by each hook are kept separately, see {@link TileProfiler#setAllocationMode(boolean)}.
+ * <p/>
+ * Times are also kept in a histogram of power of two buckets, bucket n holding times
+ * from 2^(n-1) up to 2^n nanoseconds. Used to estimate percentiles without storing each time.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TileStats
+{
+    /** Number of histogram buckets, the last bucket holds anything over a second */
+    public static final int BUCKETS = 32;
+
+    /** Name of the tile type, mod domain and tile name */
+    public final String name;
+
+    private final LongAdder[] counts = new LongAdder[Hook.HOOKS.length];
+    private final LongAdder[] totals = new LongAdder[Hook.HOOKS.length];
+    private final LongAdder[][] histograms = new LongAdder[Hook.HOOKS.length][BUCKETS];
+    private final LongAdder[] allocationCounts = new LongAdder[Hook.HOOKS.length];
+    private final LongAdder[] allocatedBytes = new LongAdder[Hook.HOOKS.length];
+
+    public TileStats(String name)
+    {
+        this.name = name;
+        for (int h = 0; h < Hook.HOOKS.length; h++)
+        {
+            counts[h] = new LongAdder();
+            totals[h] = new LongAdder();
+            allocationCounts[h] = new LongAdder();
+            allocatedBytes[h] = new LongAdder();
+            for (int b = 0; b < BUCKETS; b++)
+            {
+                histograms[h][b] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Records a single call of the hook
+     *
+     * @param hook  - hook called
+     * @param nanos - time the call took
+     */
+    public void record(Hook hook, long nanos)
+    {
+        final int h = hook.ordinal();
+        counts[h].increment();
+        totals[h].add(nanos);
+        histograms[h][bucket(nanos)].increment();
+    }
+
+    /**
+     * Records the bytes allocated by a single call of the hook
+     *
+     * @param hook  - hook called
+     * @param bytes - bytes allocated by the thread during the call
+     */
+    public void recordAllocation(Hook hook, long bytes)
+    {
+        final int h = hook.ordinal();
+        allocationCounts[h].increment();
+        allocatedBytes[h].add(Math.max(0, bytes));
+    }
+
+    /** Number of calls of the hook measured for allocation */
+    public long getAllocationCount(Hook hook)
+    {
+        return allocationCounts[hook.ordinal()].sum();
+    }
+
+    /** Total bytes allocated by the hook */
+    public long getAllocatedBytes(Hook hook)
+    {
+        return allocatedBytes[hook.ordinal()].sum();
+    }
+
+    /** Number of times the hook was called */
+    public long getCount(Hook hook)
+    {
+        return counts[hook.ordinal()].sum();
+    }
+
+    /** Total time spent in the hook in nanoseconds */
+    public long getTotalNanos(Hook hook)
+    {
+        return totals[hook.ordinal()].sum();
+    }
+
+    /** Total time spent in all hooks in nanoseconds */
+    public long getTotalNanos()
+    {
+        long total = 0;
+        for (LongAdder adder : totals)
+        {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Estimates the percentile of the hook's call time from the histogram
+     *
+     * @param hook       - hook
+     * @param percentile - percentile between 0 and 1
+     * @return upper bound of the bucket holding the percentile in nanoseconds, 0 if never called
+     */
+    public long getPercentile(Hook hook, double percentile)
+    {
+        final LongAdder[] histogram = histograms[hook.ordinal()];
+        final long[] values = new long[BUCKETS];
+        long count = 0;
+        for (int b = 0; b < BUCKETS; b++)
+        {
+            values[b] = histogram[b].sum();
+            count += values[b];
+        }
+        if (count == 0)
+        {
+            return 0;
+        }
+        final long target = (long) Math.ceil(percentile * count);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++)
+        {
+            seen += values[b];
+            if (seen >= target)
+            {
+                return 1L << b;
+            }
+        }
+        return 1L << (BUCKETS - 1);
+    }
+
+    /** Clears all counters */
+    public void reset()
+    {
+        for (int h = 0; h < Hook.HOOKS.length; h++)
+        {
+            counts[h].reset();
+            totals[h].reset();
+            allocationCounts[h].reset();
+            allocatedBytes[h].reset();
+            for (int b = 0; b < BUCKETS; b++)
+            {
+                histograms[h][b].reset();
+            }
+        }
+    }
+
+    private static int bucket(long nanos)
+    {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)));
+    }
+}
@@ -0,0 +1,353 @@
+package com.builtbroken.tileframework;
+
+import com.builtbroken.mc.lib.transform.region.Cube;
+import com.builtbroken.tileframework.profiler.Hook;
+import com.builtbroken.tileframework.profiler.TileProfiler;
+import net.minecraft.block.Block;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Generates a subclass of {@link BlockTileA} for a single {@link TileData}. As one block class is
+ * normally shared by every tile, each hook sees many tile classes and the JIT can't inline the
+ * call. The generated class gets its own copy of the hot hooks that call the tile class of the
+ * data directly, and its block properties are returned as constants.
+ * <p/>
+ * Properties are read when the class is generated, so changes made to the {@link TileData}
+ * afterwards are not seen by the block. Only use on tiles whose data doesn't change after
+ * registration, see {@link TileData#specializeBlock}.
+ * <p/>
+ * Classes are generated with the ASM library shipped with FML and defined in a child class loader. Hidden
+ * classes would be the better fit but are not available on the Java version Minecraft runs on. As the
+ * generated class is in another package and class loader it can only call public tile classes and hooks,
+ * tiles that are not public get the shared {@link BlockTileA} instead.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class BlockSpecializer
+{
+    private static final String BLOCK = Type.getInternalName(BlockTileA.class);
+    private static final String TILE = Type.getInternalName(TileA.class);
+    private static final String ACCESS = Type.getDescriptor(IBlockAccess.class);
+
+    private static final String INJECT_DESC = "(" + ACCESS + "III)V";
+    private static final String GET_TILE_DESC = "(" + ACCESS + "III)" + Type.getDescriptor(TileA.class);
+    private static final String CUBE_DESC = "()" + Type.getDescriptor(Cube.class);
+    private static final String TO_WORLD_BOUNDS_DESC = "(" + Type.getDescriptor(TileA.class) + Type.getDescriptor(Cube.class) + ")" + Type.getDescriptor(AxisAlignedBB.class);
+    private static final String HOOK = Type.getInternalName(Hook.class);
+    private static final String END_PROFILE_DESC = "(" + Type.getDescriptor(Hook.class) + "JIII)V";
+
+    private static final Logger logger = LogManager.getLogger("TileFramework");
+    private static final Loader loader = new Loader(BlockTileA.class.getClassLoader());
+    private static int classCount = 0;
+
+    private BlockSpecializer()
+    {
+    }
+
+    /**
+     * Creates the block for the tile using a generated class. Falls back to the shared
+     * {@link BlockTileA} if the tile class can't be called from a generated class.
+     *
+     * @param data       - tile data, should be fully set up
+     * @param descriptor - derived values of the data
+     * @return new block
+     */
+    public static BlockTileA create(TileData data, TileDescriptor descriptor)
+    {
+        if (!canAccess(data.staticTile != null ? data.staticTile.getClass() : TileA.class))
+        {
+            logger.warn("Tile class of " + data.name + " or one of its hooks is not public, using the shared block class");
+            return new BlockTileA(data, descriptor);
+        }
+        try
+        {
+            Class<? extends BlockTileA> clazz = generate(data);
+            return clazz.getConstructor(TileData.class, TileDescriptor.class).newInstance(data, descriptor);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException("Failed to create specialized block for " + data.name, e);
+        }
+    }
+
+    /**
+     * Checks the generated class will be able to call the tile class and its hooks. Anything not
+     * public would fail with an {@link IllegalAccessError} the first time the hook runs.
+     *
+     * @param tileClass - class of the static tile
+     * @return true if the class, the classes it is nested in and the hooks are all public
+     */
+    static boolean canAccess(Class<?> tileClass)
+    {
+        for (Class<?> clazz = tileClass; clazz != null; clazz = clazz.getEnclosingClass())
+        {
+            if (!Modifier.isPublic(clazz.getModifiers()))
+            {
+                return false;
+            }
+        }
+        return isPublic(tileClass, "getLightValue")
+                && isPublic(tileClass, "getWeakRedstonePower", int.class)
+                && isPublic(tileClass, "getStrongRedstonePower", int.class)
+                && isPublic(tileClass, "getCollisionBounds");
+    }
+
+    private static boolean isPublic(Class<?> clazz, String name, Class<?>... params)
+    {
+        try
+        {
+            //Only finds public methods
+            return Modifier.isPublic(clazz.getMethod(name, params).getModifiers());
+        }
+        catch (NoSuchMethodException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Generates the block class for the tile data. The tile class and its hooks
+     * need to be public, see {@link #canAccess(Class)}.
+     *
+     * @param data - tile data
+     * @return generated subclass of {@link BlockTileA}
+     */
+    public static synchronized Class<? extends BlockTileA> generate(TileData data)
+    {
+        final String name = "com/builtbroken/tileframework/generated/BlockTileA_" + (classCount++) + "_" + data.name.replaceAll("[^A-Za-z0-9_]", "_");
+        final Class<? extends TileA> tileClass = data.staticTile != null ? data.staticTile.getClass() : TileA.class;
+        final String tile = Type.getInternalName(tileClass);
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
+        {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2)
+            {
+                //Frames only merge identical types in the generated code, avoids loading classes through ASM
+                return "java/lang/Object";
+            }
+        };
+        cw.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, name, null, BLOCK, null);
+
+        //Constructor
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "(" + Type.getDescriptor(TileData.class) + Type.getDescriptor(TileDescriptor.class) + ")V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, BLOCK, "<init>", "(" + Type.getDescriptor(TileData.class) + Type.getDescriptor(TileDescriptor.class) + ")V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        //Constant properties
+        constant(cw, findMethod("isOpaqueCube", "func_149662_c"), data.staticTile == null || data.isOpaque);
+        constant(cw, findMethod("renderAsNormalBlock", "func_149686_d"), data.renderNormalBlock);
+        constant(cw, findMethod("canProvidePower", "func_149744_f"), data.canEmmitRedstone);
+        constant(cw, findMethod("hasComparatorInputOverride", "func_149740_M"), data.hasComparatorOutput);
+
+        //Hooks, getLightValue is added by forge so is never obfuscated
+        hook(cw, tile, findMethod("getLightValue", null, IBlockAccess.class, int.class, int.class, int.class), 0, "getLightValue", "()I", Opcodes.IRETURN, true, Hook.LIGHT);
+        hook(cw, tile, findMethod("isProvidingWeakPower", "func_149709_b", IBlockAccess.class, int.class, int.class, int.class, int.class), 1, "getWeakRedstonePower", "(I)I", Opcodes.IRETURN, false, Hook.REDSTONE);
+        hook(cw, tile, findMethod("isProvidingStrongPower", "func_149748_c", IBlockAccess.class, int.class, int.class, int.class, int.class), 1, "getStrongRedstonePower", "(I)I", Opcodes.IRETURN, false, Hook.REDSTONE);
+        hook(cw, tile, findMethod("getCollisionBoundingBoxFromPool", "func_149668_a", World.class, int.class, int.class, int.class), 0, "getCollisionBounds", CUBE_DESC, Opcodes.ARETURN, false, Hook.COLLISION);
+
+        cw.visitEnd();
+        return loader.define(name.replace('/', '.'), cw.toByteArray()).asSubclass(BlockTileA.class);
+    }
+
+    /**
+     * Finds the block method to override. Vanilla methods are only known by their
+     * SRG name outside of the dev environment so both names are tried.
+     *
+     * @param name    - MCP name
+     * @param srgName - SRG name, null if the method is not obfuscated
+     * @param params  - param types
+     * @return method, or null if not found
+     */
+    private static Method findMethod(String name, String srgName, Class<?>... params)
+    {
+        try
+        {
+            return Block.class.getMethod(name, params);
+        }
+        catch (NoSuchMethodException e)
+        {
+            if (srgName != null)
+            {
+                try
+                {
+                    return Block.class.getMethod(srgName, params);
+                }
+                catch (NoSuchMethodException e2)
+                {
+                    //Handled below
+                }
+            }
+        }
+        logger.warn("Could not find Block#" + name + ", generated blocks will not override it");
+        return null;
+    }
+
+    /** Writes a method that returns a constant boolean */
+    private static void constant(ClassWriter cw, Method method, boolean value)
+    {
+        if (method == null)
+        {
+            return;
+        }
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, method.getName(), Type.getMethodDescriptor(method), null, null);
+        mv.visitCode();
+        mv.visitInsn(value ? Opcodes.ICONST_1 : Opcodes.ICONST_0);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Writes a hook that injects the static tile, gets the tile, calls the tile method and ejects. Same as the
+     * methods in {@link BlockTileA} except the call is made on the tile class directly when the tile is of that class.
+     * Methods returning a {@link Cube} are passed through {@link BlockTileA#toWorldBounds(TileA, Cube)}. Timed with
+     * the {@link TileProfiler} the same as the normal hooks.
+     *
+     * @param tile          - internal name of the tile class
+     * @param method        - block method to override, first param is the world then x y z
+     * @param extraInts     - number of int params after x y z passed on to the tile method
+     * @param tileMethod    - tile method to call
+     * @param tileDesc      - descriptor of the tile method
+     * @param returnOpcode  - return instruction for the method
+     * @param nullWorldZero - return zero if the world is null, matches getLightValue
+     * @param profileHook   - hook the time is recorded under
+     */
+    private static void hook(ClassWriter cw, String tile, Method method, int extraInts, String tileMethod, String tileDesc, int returnOpcode, boolean nullWorldZero, Hook profileHook)
+    {
+        if (method == null)
+        {
+            return;
+        }
+        final int tileVar = 5 + extraInts;
+        final int valueVar = tileVar + 1;
+        final int startVar = valueVar + 1;
+        final boolean cube = CUBE_DESC.equals(tileDesc);
+        final int store = returnOpcode == Opcodes.IRETURN ? Opcodes.ISTORE : Opcodes.ASTORE;
+        final int load = returnOpcode == Opcodes.IRETURN ? Opcodes.ILOAD : Opcodes.ALOAD;
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, method.getName(), Type.getMethodDescriptor(method), null, null);
+        mv.visitCode();
+
+        if (nullWorldZero)
+        {
+            Label notNull = new Label();
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitJumpInsn(Opcodes.IFNONNULL, notNull);
+            mv.visitInsn(Opcodes.ICONST_0);
+            mv.visitInsn(Opcodes.IRETURN);
+            mv.visitLabel(notNull);
+        }
+
+        //long start = TileProfiler.start()
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(TileProfiler.class), "start", "()J", false);
+        mv.visitVarInsn(Opcodes.LSTORE, startVar);
+
+        //inject(world, x, y, z)
+        loadPos(mv);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BLOCK, "inject", INJECT_DESC, false);
+
+        //TileA tile = getTile(world, x, y, z)
+        loadPos(mv);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BLOCK, "getTile", GET_TILE_DESC, false);
+        mv.visitVarInsn(Opcodes.ASTORE, tileVar);
+
+        if (cube)
+        {
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitVarInsn(Opcodes.ALOAD, tileVar);
+        }
+
+        //value = tile instanceof Concrete ? ((Concrete) tile).method(...) : tile.method(...)
+        Label generic = new Label();
+        Label done = new Label();
+        mv.visitVarInsn(Opcodes.ALOAD, tileVar);
+        mv.visitTypeInsn(Opcodes.INSTANCEOF, tile);
+        mv.visitJumpInsn(Opcodes.IFEQ, generic);
+        mv.visitVarInsn(Opcodes.ALOAD, tileVar);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, tile);
+        loadExtraInts(mv, extraInts);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, tile, tileMethod, tileDesc, false);
+        mv.visitJumpInsn(Opcodes.GOTO, done);
+        mv.visitLabel(generic);
+        mv.visitVarInsn(Opcodes.ALOAD, tileVar);
+        loadExtraInts(mv, extraInts);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, TILE, tileMethod, tileDesc, false);
+        mv.visitLabel(done);
+
+        if (cube)
+        {
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BLOCK, "toWorldBounds", TO_WORLD_BOUNDS_DESC, false);
+        }
+        mv.visitVarInsn(store, valueVar);
+
+        //eject()
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BLOCK, "eject", "()V", false);
+
+        //endProfile(hook, start, x, y, z)
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETSTATIC, HOOK, profileHook.name(), Type.getDescriptor(Hook.class));
+        mv.visitVarInsn(Opcodes.LLOAD, startVar);
+        mv.visitVarInsn(Opcodes.ILOAD, 2);
+        mv.visitVarInsn(Opcodes.ILOAD, 3);
+        mv.visitVarInsn(Opcodes.ILOAD, 4);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, BLOCK, "endProfile", END_PROFILE_DESC, false);
+
+        mv.visitVarInsn(load, valueVar);
+        mv.visitInsn(returnOpcode);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /** Loads this, world, x, y, z */
+    private static void loadPos(MethodVisitor mv)
+    {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitVarInsn(Opcodes.ILOAD, 2);
+        mv.visitVarInsn(Opcodes.ILOAD, 3);
+        mv.visitVarInsn(Opcodes.ILOAD, 4);
+    }
+
+    private static void loadExtraInts(MethodVisitor mv, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            mv.visitVarInsn(Opcodes.ILOAD, 5 + i);
+        }
+    }
+
+    /** Class loader used to define the generated classes */
+    private static final class Loader extends ClassLoader
+    {
+        Loader(ClassLoader parent)
+        {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] bytes)
+        {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
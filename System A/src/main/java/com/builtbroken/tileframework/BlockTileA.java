@@ -4,10 +4,19 @@ import com.builtbroken.mc.lib.transform.region.Cube;
 import com.builtbroken.mc.lib.transform.vector.Point;
 import com.builtbroken.mc.lib.transform.vector.Pos;
 import com.builtbroken.mc.prefab.inventory.InventoryUtility;
+import com.builtbroken.tileframework.lib.CollisionDispatcher;
+import com.builtbroken.tileframework.lib.DropTable;
+import com.builtbroken.tileframework.lib.ExplosionBatch;
+import com.builtbroken.tileframework.lib.PackedPos;
+import com.builtbroken.tileframework.lib.ParticleBudget;
+import com.builtbroken.tileframework.lib.RainService;
+import com.builtbroken.tileframework.profiler.Hook;
+import com.builtbroken.tileframework.profiler.TileProfiler;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockContainer;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.entity.Entity;
@@ -33,11 +42,28 @@ import java.util.Random;
  *
  * @author Dark
  */
-public class BlockTileA extends BlockContainer
+public class BlockTileA extends BlockContainer implements ExplosionBatch.Handler, CollisionDispatcher.Handler, RainService.Handler
 {
     public final TileData tileData;
 
+    /** Does the static tile take all blocks destroyed by an explosion in one call */
+    private final boolean batchExplosions;
+    /** Are collisions grouped per tick through the {@link CollisionDispatcher} */
+    private final boolean batchCollisions;
+
     public BlockTileA(TileData data)
+    {
+        this(data, new TileDescriptor(data));
+    }
+
+    /**
+     * Creates the block using values already derived from the data
+     * object, see {@link TileRegistry}
+     *
+     * @param data       - tile data
+     * @param descriptor - derived values of the tile data
+     */
+    public BlockTileA(TileData data, TileDescriptor descriptor)
     {
         super(data.material);
         this.tileData = data;
@@ -51,24 +77,31 @@ public class BlockTileA extends BlockContainer
         this.tileData.block = this;
 
         //Load all data from tile data object
-        if (tileData != null)
-        {
-            this.setBlockBounds((float) this.tileData.bounds.min().x(), (float) this.tileData.bounds.min().y(), (float) this.tileData.bounds.min().z(), (float) this.tileData.bounds.max().x(), (float) this.tileData.bounds.max().y(), (float) this.tileData.bounds.max().z());
-        }
+        final float[] bounds = descriptor.bounds;
+        this.setBlockBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
 
         this.opaque = isOpaqueCube();
-        setBlockName(tileData.mod.getPrefix() + tileData.name);
-        setBlockTextureName(tileData.mod.getPrefix() + tileData.textureName);
+        setBlockName(descriptor.unlocalizedName);
+        setBlockTextureName(descriptor.textureName);
         setCreativeTab(tileData.creativeTab == null ? CreativeTabs.tabMisc : tileData.creativeTab);
         setLightOpacity(isOpaqueCube() ? 255 : 0);
         setHardness(tileData.hardness);
         setResistance(tileData.resistance);
         setStepSound(tileData.stepSound);
+
+        tileData.dynamicResistance |= descriptor.has(TileDescriptor.DYNAMIC_RESISTANCE);
+        batchExplosions = descriptor.has(TileDescriptor.BATCH_EXPLOSIONS);
+        batchCollisions = tileData.collisionCooldown > 0 || descriptor.has(TileDescriptor.BATCH_COLLISIONS);
     }
 
     @Override
     public TileEntity createTileEntity(World world, int meta)
     {
+        //Lazy tiles are only created through materialize()
+        if (tileData.lazyTile)
+        {
+            return null;
+        }
         return tileData.createNewTileEntity(world, meta);
     }
 
@@ -82,11 +115,22 @@ public class BlockTileA extends BlockContainer
     @Override
     public void fillWithRain(World world, int x, int y, int z)
     {
+        //Tiles get their rain from the rain service instead
+        if (tileData.rainInterval > 0)
+        {
+            return;
+        }
         inject(world, x, y, z);
         getTile(world, x, y, z).onFillRain();
         eject();
     }
 
+    @Override
+    public void onRain(World world, TileEntity tile, int rainTicks)
+    {
+        ((TileA) tile).onFillRain(rainTicks);
+    }
+
     @Override
     public float getExplosionResistance(Entity entity)
     {
@@ -96,9 +140,16 @@ public class BlockTileA extends BlockContainer
     @Override
     public float getExplosionResistance(Entity entity, World world, int x, int y, int z, double explosionX, double explosionY, double explosionZ)
     {
+        //Called for every ray step of an explosion, skip the tile lookup when the position doesn't matter
+        if (!tileData.dynamicResistance)
+        {
+            return tileData.staticTile.getExplosionResistance(entity);
+        }
+        final long start = TileProfiler.start();
         inject(world, x, y, z);
-        float resistance = getTile(world, x, y, z).getExplosionResistance(entity, new Pos(explosionX, explosionY, explosionZ));
+        float resistance = getTile(world, x, y, z).getExplosionResistance(entity, explosionX, explosionY, explosionZ);
         eject();
+        endProfile(Hook.EXPLOSION, start, x, y, z);
         return resistance;
     }
 
@@ -114,7 +165,15 @@ public class BlockTileA extends BlockContainer
     public void onBlockAdded(World world, int x, int y, int z)
     {
         inject(world, x, y, z);
-        getTile(world, x, y, z).onAdded();
+        TileEntity tile = world.getTileEntity(x, y, z);
+        if (tile instanceof TileA)
+        {
+            ((TileA) tile).onBlockAdded();
+        }
+        else
+        {
+            tileData.staticTile.onAdded();
+        }
         eject();
     }
 
@@ -140,11 +199,24 @@ public class BlockTileA extends BlockContainer
     @Override
     public void onBlockDestroyedByExplosion(World world, int x, int y, int z, Explosion ex)
     {
+        if (batchExplosions)
+        {
+            ExplosionBatch.get(world).add(world, ex, this, x, y, z);
+            return;
+        }
         inject(world, x, y, z);
         getTile(world, x, y, z).onDestroyedByExplosion(ex);
         eject();
     }
 
+    @Override
+    public void onExplosionBatch(World world, Explosion explosion, long[] positions, int count)
+    {
+        inject(world, PackedPos.getX(positions[0]), PackedPos.getY(positions[0]), PackedPos.getZ(positions[0]));
+        tileData.staticTile.onDestroyedByExplosion(explosion, positions, count);
+        eject();
+    }
+
     @Override
     public void breakBlock(World world, int x, int y, int z, Block block, int par6)
     {
@@ -172,9 +244,11 @@ public class BlockTileA extends BlockContainer
     @Override
     public void onNeighborBlockChange(World world, int x, int y, int z, Block block)
     {
+        final long start = TileProfiler.start();
         inject(world, x, y, z);
         getTile(world, x, y, z).onNeighborChanged(block);
         eject();
+        endProfile(Hook.NEIGHBOR_CHANGE, start, x, y, z);
     }
 
     public boolean canPlaceBlockOnSide(World world, int x, int y, int z, int side)
@@ -197,17 +271,23 @@ public class BlockTileA extends BlockContainer
     @Override
     public void onNeighborChange(IBlockAccess world, int x, int y, int z, int tileX, int tileY, int tileZ)
     {
+        final long start = TileProfiler.start();
         inject(world, x, y, z);
-        getTile(world, x, y, z).onNeighborChanged(new Pos(tileX, tileY, tileZ));
+        getTile(world, x, y, z).onNeighborChanged(PackedPos.pack(tileX, tileY, tileZ));
         eject();
+        endProfile(Hook.NEIGHBOR_CHANGE, start, x, y, z);
     }
 
     @Override
     public boolean onBlockActivated(World world, int x, int y, int z, EntityPlayer player, int side, float hitX, float hitY, float hitZ)
     {
+        final long start = TileProfiler.start();
         inject(world, x, y, z);
-        boolean value = getTile(world, x, y, z).onPlayerActivated(player, side, new Pos(hitX, hitY, hitZ));
+        TileA tile = tileData.lazyTile ? materialize(world, x, y, z) : getTile(world, x, y, z);
+        boolean value = tile.onPlayerActivated(player, side, hitX, hitY, hitZ);
+        tile.dematerializeIfDefault();
         eject();
+        endProfile(Hook.ACTIVATE, start, x, y, z);
         return value;
     }
 
@@ -222,23 +302,67 @@ public class BlockTileA extends BlockContainer
     @SideOnly(Side.CLIENT)
     public void randomDisplayTick(World world, int x, int y, int z, Random par5Random)
     {
+        final long start = TileProfiler.start();
         inject(world, x, y, z);
-        getTile(world, x, y, z).randomDisplayTick();
+        final TileA tile = getTile(world, x, y, z);
+        //Only tiles that spawn particles use up the budget
+        if (tile.hasDisplayTick() && ParticleBudget.CLIENT.tryUse(tileData.particleWeight, getViewDistanceSq(x, y, z), par5Random))
+        {
+            tile.randomDisplayTick();
+        }
         eject();
+        endProfile(Hook.RENDER, start, x, y, z);
+    }
+
+    /** Distance squared from the camera to the block, used by the {@link ParticleBudget} */
+    @SideOnly(Side.CLIENT)
+    private static double getViewDistanceSq(int x, int y, int z)
+    {
+        final EntityLivingBase view = Minecraft.getMinecraft().renderViewEntity;
+        return view != null ? view.getDistanceSq(x + 0.5, y + 0.5, z + 0.5) : 0;
     }
 
     @Override
     public void onEntityCollidedWithBlock(World world, int x, int y, int z, Entity entity)
     {
+        if (batchCollisions)
+        {
+            CollisionDispatcher.get(world).add(world, this, x, y, z, entity);
+            return;
+        }
+        final long start = TileProfiler.start();
         inject(world, x, y, z);
         getTile(world, x, y, z).onCollide(entity);
         eject();
+        endProfile(Hook.COLLISION, start, x, y, z);
+    }
+
+    @Override
+    public void onCollisionBatch(World world, int x, int y, int z, List<Entity> entities)
+    {
+        //Block may have been removed since the contacts were added
+        if (world.getBlock(x, y, z) != this)
+        {
+            return;
+        }
+        final long start = TileProfiler.start();
+        inject(world, x, y, z);
+        getTile(world, x, y, z).onCollide(entities);
+        eject();
+        endProfile(Hook.COLLISION, start, x, y, z);
+    }
+
+    @Override
+    public int getCollisionCooldown()
+    {
+        return tileData.collisionCooldown;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void addCollisionBoxesToList(World world, int x, int y, int z, AxisAlignedBB aabb, List list, Entity entity)
     {
+        final long start = TileProfiler.start();
         inject(world, x, y, z);
         Iterable<Cube> bounds = getTile(world, x, y, z).getCollisionBoxes(new Cube(aabb).subtract(new Pos(x, y, z)), entity);
         eject();
@@ -253,34 +377,53 @@ public class BlockTileA extends BlockContainer
                 }
             }
         }
+        endProfile(Hook.COLLISION, start, x, y, z);
     }
 
     @SideOnly(Side.CLIENT)
     public AxisAlignedBB getSelectedBoundingBoxFromPool(World world, int x, int y, int z)
     {
+        final long start = TileProfiler.start();
         inject(world, x, y, z);
         TileA tile = getTile(world, x, y, z);
-        AxisAlignedBB value = tile.getSelectBounds().clone().add(tile.x(), tile.y(), tile.z()).toAABB();
+        AxisAlignedBB value = toWorldBounds(tile, tile.getSelectBounds());
         eject();
+        endProfile(Hook.COLLISION, start, x, y, z);
         return value;
     }
 
     @Override
     public AxisAlignedBB getCollisionBoundingBoxFromPool(World world, int x, int y, int z)
     {
+        final long start = TileProfiler.start();
         inject(world, x, y, z);
         TileA tile = getTile(world, x, y, z);
-        AxisAlignedBB value = tile.getCollisionBounds().clone().add(tile.x(), tile.y(), tile.z()).toAABB();
+        AxisAlignedBB value = toWorldBounds(tile, tile.getCollisionBounds());
         eject();
+        endProfile(Hook.COLLISION, start, x, y, z);
         return value;
     }
 
+    /**
+     * Moves bounds relative to the tile into world space
+     *
+     * @param tile   - tile the bounds belong to
+     * @param bounds - bounds relative to the tile
+     * @return new bounding box in world space
+     */
+    protected AxisAlignedBB toWorldBounds(TileA tile, Cube bounds)
+    {
+        return bounds.clone().add(tile.x(), tile.y(), tile.z()).toAABB();
+    }
+
     @Override
     public boolean shouldSideBeRendered(IBlockAccess access, int x, int y, int z, int side)
     {
+        final long start = TileProfiler.start();
         inject(access, x, y, z);
         boolean value = tileData.staticTile.shouldSideBeRendered(side);
         eject();
+        endProfile(Hook.RENDER, start, x, y, z);
         return value;
     }
 
@@ -296,6 +439,7 @@ public class BlockTileA extends BlockContainer
     @Override
     public int getLightValue(IBlockAccess access, int x, int y, int z)
     {
+        final long start = TileProfiler.start();
         int value = 0;
         if (access != null)
         {
@@ -303,14 +447,23 @@ public class BlockTileA extends BlockContainer
             value = getTile(access, x, y, z).getLightValue();
             eject();
         }
+        endProfile(Hook.LIGHT, start, x, y, z);
         return value;
     }
 
     @Override
     public boolean hasComparatorInputOverride()
     {
-        //TODO, add support for comparators
-        return false;
+        return tileData.hasComparatorOutput;
+    }
+
+    @Override
+    public int getComparatorInputOverride(World world, int x, int y, int z, int side)
+    {
+        inject(world, x, y, z);
+        int value = getTile(world, x, y, z).getComparatorOutput(side);
+        eject();
+        return value;
     }
 
     @Override
@@ -336,9 +489,11 @@ public class BlockTileA extends BlockContainer
     @Override
     public IIcon getIcon(IBlockAccess access, int x, int y, int z, int side)
     {
+        final long start = TileProfiler.start();
         inject(access, x, y, z);
         IIcon value = getTile(access, x, y, z).getIcon(side, access.getBlockMetadata(x, y, z));
         eject();
+        endProfile(Hook.RENDER, start, x, y, z);
         return value;
     }
 
@@ -360,9 +515,11 @@ public class BlockTileA extends BlockContainer
     @Override
     public int colorMultiplier(IBlockAccess access, int x, int y, int z)
     {
+        final long start = TileProfiler.start();
         inject(access, x, y, z);
         int value = getTile(access, x, y, z).getColorMultiplier();
         eject();
+        endProfile(Hook.RENDER, start, x, y, z);
         return value;
     }
 
@@ -394,10 +551,16 @@ public class BlockTileA extends BlockContainer
 
     public ArrayList<ItemStack> getDrops(World world, int x, int y, int z, int metadata, int fortune)
     {
+        if (tileData.drops != null)
+        {
+            return tileData.drops.getDrops(metadata, fortune, world.rand);
+        }
+        final long start = TileProfiler.start();
         inject(world, x, y, z);
         ArrayList<ItemStack> value = getTile(world, x, y, z).getDrops(metadata, fortune);
         eject();
-        return value != null ? value : new ArrayList<ItemStack>();
+        endProfile(Hook.DROPS, start, x, y, z);
+        return value != null ? DropTable.merge(value) : new ArrayList<ItemStack>();
     }
 
     @Override
@@ -418,18 +581,22 @@ public class BlockTileA extends BlockContainer
     @Override
     public int isProvidingWeakPower(IBlockAccess access, int x, int y, int z, int side)
     {
+        final long start = TileProfiler.start();
         inject(access, x, y, z);
         int value = getTile(access, x, y, z).getWeakRedstonePower(side);
         eject();
+        endProfile(Hook.REDSTONE, start, x, y, z);
         return value;
     }
 
     @Override
     public int isProvidingStrongPower(IBlockAccess access, int x, int y, int z, int side)
     {
+        final long start = TileProfiler.start();
         inject(access, x, y, z);
         int value = getTile(access, x, y, z).getStrongRedstonePower(side);
         eject();
+        endProfile(Hook.REDSTONE, start, x, y, z);
         return value;
     }
 
@@ -467,23 +634,57 @@ public class BlockTileA extends BlockContainer
     }
 
     public static Point getClickedFace(Byte hitSide, float hitX, float hitY, float hitZ)
+    {
+        return new Point(getClickedFaceX(hitSide, hitX, hitY, hitZ), getClickedFaceY(hitSide, hitX, hitY, hitZ));
+    }
+
+    /**
+     * Gets the x of the spot clicked on the face, same as {@link #getClickedFace(Byte, float, float, float)}
+     * without creating a {@link Point}
+     *
+     * @param hitSide - side clicked
+     * @return x on the face, 0 to 1
+     */
+    public static float getClickedFaceX(int hitSide, float hitX, float hitY, float hitZ)
     {
         switch (hitSide)
         {
             case 0:
-                return new Point(1 - hitX, hitZ);
+            case 2:
+                return 1 - hitX;
             case 1:
-                return new Point(hitX, hitZ);
+            case 3:
+                return hitX;
+            case 4:
+                return hitZ;
+            case 5:
+                return 1 - hitZ;
+            default:
+                return 0.5f;
+        }
+    }
+
+    /**
+     * Gets the y of the spot clicked on the face, same as {@link #getClickedFace(Byte, float, float, float)}
+     * without creating a {@link Point}
+     *
+     * @param hitSide - side clicked
+     * @return y on the face, 0 to 1
+     */
+    public static float getClickedFaceY(int hitSide, float hitX, float hitY, float hitZ)
+    {
+        switch (hitSide)
+        {
+            case 0:
+            case 1:
+                return hitZ;
             case 2:
-                return new Point(1 - hitX, 1 - hitY);
             case 3:
-                return new Point(hitX, 1 - hitY);
             case 4:
-                return new Point(hitZ, 1 - hitY);
             case 5:
-                return new Point(1 - hitZ, 1 - hitY);
+                return 1 - hitY;
             default:
-                return new Point(0.5, 0.5);
+                return 0.5f;
         }
     }
 
@@ -512,11 +713,60 @@ public class BlockTileA extends BlockContainer
         tileData.staticTile.zCoord = 0;
     }
 
+    /**
+     * Gets the tile at the location, creating it if the block was
+     * placed without one due to {@link TileData#lazyTile}.
+     *
+     * @return tile instance at the location
+     */
+    public TileA materialize(World world, int x, int y, int z)
+    {
+        TileEntity tile = world.getTileEntity(x, y, z);
+        if (!(tile instanceof TileA))
+        {
+            tile = tileData.createNewTileEntity(world, world.getBlockMetadata(x, y, z));
+            if (!(tile instanceof TileA))
+            {
+                throw new IllegalStateException("Failed to create tile for " + tileData.name + " at " + x + "," + y + "," + z);
+            }
+            world.setTileEntity(x, y, z, tile);
+        }
+        return getTile(world, x, y, z);
+    }
+
+    /**
+     * Removes the tile from the location, leaving the block to run off the static
+     * tile. Does nothing unless {@link TileData#lazyTile} is enabled.
+     */
+    public void dematerialize(World world, int x, int y, int z)
+    {
+        if (tileData.lazyTile)
+        {
+            world.removeTileEntity(x, y, z);
+        }
+    }
+
+    /**
+     * Records the time of a hook with the {@link TileProfiler}
+     *
+     * @param hook  - hook being timed
+     * @param start - value returned by {@link TileProfiler#start()}
+     */
+    protected final void endProfile(Hook hook, long start, int x, int y, int z)
+    {
+        if (start != 0L)
+        {
+            TileProfiler.end(tileData.getStats(), hook, start, x, y, z);
+        }
+    }
+
     public TileA getTile(IBlockAccess world, int x, int y, int z)
     {
         TileEntity tile = world.getTileEntity(x, y, z);
         if (tile instanceof TileA)
         {
+            //Tile may still be waiting in the init queue, make sure it is ready before any hook is called
+            ((TileA) tile).ensureInitialized();
             return ((TileA) tile);
         }
         return tileData.staticTile;
@@ -0,0 +1,114 @@
+package com.builtbroken.tileframework;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Defers tile updates while the server is running behind. The length of each server tick is
+ * recorded by the {@link TickHandler}, and after several ticks in a row go over budget the shed
+ * level is raised. At level N {@link TilePriority#NORMAL} tiles update every 2^N ticks and
+ * {@link TilePriority#COSMETIC} tiles every 2^(N+1) ticks, while {@link TilePriority#CRITICAL}
+ * tiles keep updating every tick. Tiles are spread round-robin over the ticks so the work
+ * left is even, and are passed the real number of ticks since their last update.
+ * <p/>
+ * Tiles that don't override {@link TileA#update(long)} always count as critical, as they would
+ * lose the ticks they are deferred for. Off unless started with
+ * {@code -Dtileframework.shedding.enable=true}. Only used from the server thread.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class LoadShedder
+{
+    private static final Logger logger = LogManager.getLogger("TileFramework");
+
+    /** Is load shedding allowed */
+    public static boolean enabled = Boolean.getBoolean("tileframework.shedding.enable");
+
+    /** Max time in nanoseconds a server tick should take */
+    public static long tickBudgetNanos = 50000000L;
+
+    /** Number of ticks in a row over budget before the shed level is raised */
+    public static int overrunTicks = 3;
+
+    /** Number of ticks in a row under budget before the shed level is lowered */
+    public static int recoveryTicks = 40;
+
+    /** Highest shed level, normal tiles update at least every 2^maxLevel ticks */
+    public static int maxLevel = 3;
+
+    /** Current shed level, 0 when not shedding */
+    private static int level = 0;
+    private static int overruns = 0;
+    private static int goodTicks = 0;
+    /** Next round-robin slot given to a tile */
+    private static int nextSlot = 0;
+
+    private LoadShedder()
+    {
+    }
+
+    /**
+     * Called at the end of each server tick with the time it took
+     *
+     * @param nanos - length of the tick
+     */
+    public static void recordTick(long nanos)
+    {
+        if (!enabled)
+        {
+            level = 0;
+            return;
+        }
+        if (nanos > tickBudgetNanos)
+        {
+            goodTicks = 0;
+            if (++overruns >= overrunTicks && level < maxLevel)
+            {
+                level++;
+                overruns = 0;
+                logger.warn(String.format("Server tick took %.3fms, deferring tile updates, shed level %d", nanos / 1000000.0, level));
+            }
+        }
+        else
+        {
+            overruns = 0;
+            if (level > 0 && ++goodTicks >= recoveryTicks)
+            {
+                level--;
+                goodTicks = 0;
+                logger.info("Server caught up, shed level " + level);
+            }
+        }
+    }
+
+    /**
+     * Checks if a tile should update this tick
+     *
+     * @param priority  - priority of the tile
+     * @param slot      - round-robin slot of the tile, see {@link #nextSlot()}
+     * @param worldTime - total world time
+     * @return true if the tile should update
+     */
+    public static boolean shouldUpdate(TilePriority priority, int slot, long worldTime)
+    {
+        if (level == 0 || priority == TilePriority.CRITICAL)
+        {
+            return true;
+        }
+        final int mask = (1 << (level + priority.shedOffset)) - 1;
+        return ((worldTime + slot) & mask) == 0;
+    }
+
+    /** Current shed level, 0 when not shedding */
+    public static int getLevel()
+    {
+        return level;
+    }
+
+    /** Gets the round-robin slot for a new tile */
+    static int nextSlot()
+    {
+        return nextSlot++;
+    }
+}
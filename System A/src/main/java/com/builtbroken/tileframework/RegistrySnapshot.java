@@ -0,0 +1,281 @@
+package com.builtbroken.tileframework;
+
+import cpw.mods.fml.common.Loader;
+import cpw.mods.fml.common.ModContainer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary snapshot of the {@link TileDescriptor}s built during registration. Saved after a successful
+ * registration and read back on the next start so the derived values don't need to be rebuilt. The
+ * hooks each static tile overrides are not stored, they are checked again against the loaded class.
+ * <p/>
+ * The snapshot is tied to a hash of the loaded mods and their versions. If the hash, version or
+ * format doesn't match the snapshot is ignored and the tiles are prepared as normal. Each entry
+ * also stores a hash of the tile data values it was built from, see {@link #hashInputs(TileData)},
+ * so a tile whose data changed without a version bump is rebuilt on its own.
+ * <p/>
+ * The file is read in full and closed before it is used, so it is never held open while a new
+ * snapshot replaces it.
+ * <p/>
+ * Format: magic, version, mod set hash, entry count, then for each entry the key, input hash,
+ * unlocalized name, texture name and six bounds floats. Strings are stored
+ * as a length followed by UTF-8 bytes.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class RegistrySnapshot
+{
+    public static final int MAGIC = 0x54465253; //TFRS
+    public static final int VERSION = 4;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    //64 bit FNV-1a
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** Cached descriptor values by {@link #getKey(TileData)} */
+    private final Map<String, Entry> entries;
+
+    private RegistrySnapshot(Map<String, Entry> entries)
+    {
+        this.entries = entries;
+    }
+
+    /**
+     * Gets the descriptor for the tile from the snapshot
+     *
+     * @param data - tile data
+     * @return descriptor, or null if the tile is not in the snapshot
+     */
+    public TileDescriptor getDescriptor(TileData data)
+    {
+        Entry entry = entries.get(getKey(data));
+        if (entry != null && entry.inputHash == hashInputs(data))
+        {
+            return new TileDescriptor(data, entry.unlocalizedName, entry.textureName, entry.bounds);
+        }
+        return null;
+    }
+
+    /** Number of tiles in the snapshot */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Key used to match a tile to its entry
+     *
+     * @param data - tile data
+     * @return mod domain and name of the tile
+     */
+    public static String getKey(TileData data)
+    {
+        return data.mod.getDomain() + ":" + data.name;
+    }
+
+    /**
+     * Hashes the id and version of every loaded mod
+     *
+     * @return hash of the mod set
+     */
+    public static long hashModSet()
+    {
+        long hash = FNV_OFFSET;
+        for (ModContainer mod : Loader.instance().getActiveModList())
+        {
+            hash = hash(hash, mod.getModId() + "@" + mod.getVersion() + ";");
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the values of the tile data that its descriptor is built from
+     *
+     * @param data - tile data
+     * @return hash of the prefix, name, texture name, bounds and static tile class
+     */
+    public static long hashInputs(TileData data)
+    {
+        long hash = hash(FNV_OFFSET, data.mod.getPrefix() + ";" + data.name + ";" + data.textureName + ";");
+        hash = hash(hash, data.staticTile != null ? data.staticTile.getClass().getName() + ";" : "null;");
+        if (data.bounds != null)
+        {
+            hash = hash(hash, Double.doubleToLongBits(data.bounds.min().x()));
+            hash = hash(hash, Double.doubleToLongBits(data.bounds.min().y()));
+            hash = hash(hash, Double.doubleToLongBits(data.bounds.min().z()));
+            hash = hash(hash, Double.doubleToLongBits(data.bounds.max().x()));
+            hash = hash(hash, Double.doubleToLongBits(data.bounds.max().y()));
+            hash = hash(hash, Double.doubleToLongBits(data.bounds.max().z()));
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String string)
+    {
+        for (byte b : string.getBytes(UTF_8))
+        {
+            hash ^= b & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, long value)
+    {
+        for (int i = 0; i < 8; i++)
+        {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Loads the snapshot from the file
+     *
+     * @param file       - snapshot file
+     * @param modSetHash - hash of the current mod set, see {@link #hashModSet()}
+     * @return snapshot, or null if the file is missing, broken or stale
+     */
+    public static RegistrySnapshot load(File file, long modSetHash)
+    {
+        if (!file.isFile())
+        {
+            return null;
+        }
+        try
+        {
+            final long length = file.length();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            try
+            {
+                if (length < 20 || in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != modSetHash)
+                {
+                    return null;
+                }
+                final int count = in.readInt();
+                if (count < 0 || count > length)
+                {
+                    return null;
+                }
+                final Map<String, Entry> entries = new HashMap(count * 2);
+                for (int i = 0; i < count; i++)
+                {
+                    String key = readString(in, length);
+                    long inputHash = in.readLong();
+                    Entry entry = new Entry(inputHash, readString(in, length), readString(in, length), new float[6]);
+                    for (int b = 0; b < 6; b++)
+                    {
+                        entry.bounds[b] = in.readFloat();
+                    }
+                    entries.put(key, entry);
+                }
+                return new RegistrySnapshot(entries);
+            }
+            finally
+            {
+                in.close();
+            }
+        }
+        catch (Exception e)
+        {
+            //Anything wrong with the file just means we rebuild
+            return null;
+        }
+    }
+
+    /**
+     * Saves the descriptors to the file. Written to a temp file first so a crash
+     * part way through doesn't leave a broken snapshot behind.
+     *
+     * @param file        - snapshot file
+     * @param modSetHash  - hash of the current mod set, see {@link #hashModSet()}
+     * @param descriptors - descriptors to save
+     * @throws IOException if the file could not be written
+     */
+    public static void save(File file, long modSetHash, Collection<TileDescriptor> descriptors) throws IOException
+    {
+        File folder = file.getAbsoluteFile().getParentFile();
+        if (folder != null && !folder.exists() && !folder.mkdirs())
+        {
+            throw new IOException("Failed to create folder " + folder);
+        }
+        File temp = new File(file.getPath() + ".tmp");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+        try
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(modSetHash);
+            out.writeInt(descriptors.size());
+            for (TileDescriptor descriptor : descriptors)
+            {
+                writeString(out, getKey(descriptor.data));
+                out.writeLong(hashInputs(descriptor.data));
+                writeString(out, descriptor.unlocalizedName);
+                writeString(out, descriptor.textureName);
+                for (float f : descriptor.bounds)
+                {
+                    out.writeFloat(f);
+                }
+            }
+        }
+        finally
+        {
+            out.close();
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String readString(DataInputStream in, long fileLength) throws IOException
+    {
+        int length = in.readInt();
+        if (length < 0 || length > fileLength)
+        {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException
+    {
+        byte[] bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static final class Entry
+    {
+        final long inputHash;
+        final String unlocalizedName;
+        final String textureName;
+        final float[] bounds;
+
+        Entry(long inputHash, String unlocalizedName, String textureName, float[] bounds)
+        {
+            this.inputHash = inputHash;
+            this.unlocalizedName = unlocalizedName;
+            this.textureName = textureName;
+            this.bounds = bounds;
+        }
+    }
+}
@@ -1,9 +1,18 @@
 package com.builtbroken.tileframework;
 
+import com.builtbroken.tileframework.api.IMod;
+import com.builtbroken.tileframework.lib.CollisionDispatcher;
+import com.builtbroken.tileframework.lib.ExplosionBatch;
+import com.builtbroken.tileframework.lib.ParticleBudget;
+import com.builtbroken.tileframework.lib.RainService;
+import com.builtbroken.tileframework.processor.TileIndexProcessor;
+import com.builtbroken.tileframework.profiler.CommandTileProfiler;
+import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.Mod;
 import cpw.mods.fml.common.event.FMLInitializationEvent;
 import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
+import cpw.mods.fml.common.event.FMLServerStartingEvent;
 
 /**
  * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
@@ -11,12 +20,20 @@ import cpw.mods.fml.common.event.FMLPreInitializationEvent;
  */
 
 @Mod(modid = "tmod_SystemA", name = "Test Mod Tile FrameWork System A", version = "0.0.0")
-public class TestModA
+public class TestModA implements IMod
 {
     @Mod.EventHandler
     public void preInit(FMLPreInitializationEvent event)
     {
+        FMLCommonHandler.instance().bus().register(new TickHandler());
+        TileTicker.register();
+        TileInitQueue.register();
+        ExplosionBatch.register();
+        CollisionDispatcher.register();
+        RainService.register();
+        ParticleBudget.register();
 
+        TileRegistry.register(TileIndex.load(this, TileIndexProcessor.DEFAULT_MODULE));
     }
 
     @Mod.EventHandler
@@ -28,6 +45,24 @@ public class TestModA
     @Mod.EventHandler
     public void postInit(FMLPostInitializationEvent event)
     {
+        TileData.lockRegistry();
+    }
+
+    @Mod.EventHandler
+    public void serverStarting(FMLServerStartingEvent event)
+    {
+        event.registerServerCommand(new CommandTileProfiler());
+    }
 
+    @Override
+    public String getPrefix()
+    {
+        return "tmod_SystemA:";
+    }
+
+    @Override
+    public String getDomain()
+    {
+        return "tmod_SystemA";
     }
 }
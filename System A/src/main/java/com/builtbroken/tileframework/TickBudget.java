@@ -0,0 +1,91 @@
+package com.builtbroken.tileframework;
+
+/**
+ * Tick rate state used by the {@link TickGovernor} for a single tile or a whole {@link TileData}.
+ * Each run over budget adds a strike, each run under budget takes one away. Enough strikes doubles
+ * the number of ticks between updates, and a long enough run of good updates halves it again.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TickBudget
+{
+    /** Ticks between updates, 1 is every tick */
+    private int interval = 1;
+    /** Ticks left until the next update while demoted */
+    private int countdown = 0;
+    /** Current number of strikes, see {@link TickGovernor#strikesToDemote} */
+    private int strikes = 0;
+    /** Updates in a row that stayed under budget while demoted */
+    private int goodRuns = 0;
+
+    /**
+     * Called each tick to check if the update should run
+     *
+     * @return true if the update should run this tick
+     */
+    public boolean shouldRun()
+    {
+        if (interval <= 1)
+        {
+            return true;
+        }
+        if (--countdown > 0)
+        {
+            return false;
+        }
+        countdown = interval;
+        return true;
+    }
+
+    /**
+     * Records the result of an update
+     *
+     * @param overBudget - did the update take longer than its budget
+     * @return 1 if demoted, -1 if promoted, 0 if the interval didn't change
+     */
+    public int record(boolean overBudget)
+    {
+        if (overBudget)
+        {
+            goodRuns = 0;
+            if (++strikes >= TickGovernor.strikesToDemote && interval < TickGovernor.maxInterval)
+            {
+                interval = Math.min(TickGovernor.maxInterval, interval * 2);
+                countdown = interval;
+                strikes = 0;
+                return 1;
+            }
+        }
+        else
+        {
+            if (strikes > 0)
+            {
+                strikes--;
+            }
+            if (interval > 1 && ++goodRuns >= TickGovernor.recoveryRuns)
+            {
+                interval /= 2;
+                countdown = interval;
+                goodRuns = 0;
+                return -1;
+            }
+        }
+        return 0;
+    }
+
+    /** Ticks between updates, 1 is every tick */
+    public int getInterval()
+    {
+        return interval;
+    }
+
+    /** Clears the state back to updating every tick */
+    public void reset()
+    {
+        interval = 1;
+        countdown = 0;
+        strikes = 0;
+        goodRuns = 0;
+    }
+}
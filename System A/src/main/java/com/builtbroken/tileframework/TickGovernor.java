@@ -0,0 +1,149 @@
+package com.builtbroken.tileframework;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.IdentityHashMap;
+
+/**
+ * Keeps slow tiles from eating the server tick. Each {@link TileA#update(long)} on the server is timed
+ * against a per tile budget, and the total time of all tiles of a {@link TileData} each tick against
+ * a per data budget. Tiles, or whole tile types, that keep going over are moved to a lower tick rate
+ * using a {@link TickBudget}, and moved back once they behave again.
+ * <p/>
+ * Only tiles that override {@link TileA#update(long)} are timed, as a tile that only has
+ * {@link TileA#update()} would silently lose the ticks it is skipped for. Other tiles update as normal.
+ * <p/>
+ * Costs two {@link System#nanoTime()} calls per update and no allocation unless a tile goes over
+ * budget. Off unless started with {@code -Dtileframework.governor.enable=true}, as it changes how
+ * often tiles update. Only used from the server thread.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TickGovernor
+{
+    private static final Logger logger = LogManager.getLogger("TileFramework");
+
+    /** Is the governor timing server updates */
+    public static boolean enabled = Boolean.getBoolean("tileframework.governor.enable");
+
+    /** Default max time in nanoseconds a single tile update should take, see {@link TileData#tileBudgetNanos} */
+    public static long tileBudgetNanos = 2000000L;
+
+    /** Default max time in nanoseconds all tiles of one data should take each tick, see {@link TileData#typeBudgetNanos} */
+    public static long typeBudgetNanos = 10000000L;
+
+    /** Number of strikes before the tick interval is doubled */
+    public static int strikesToDemote = 3;
+
+    /** Number of good updates in a row before the tick interval is halved */
+    public static int recoveryRuns = 100;
+
+    /** Max number of ticks between updates */
+    public static int maxInterval = 64;
+
+    /** Budget state of each tile type, only read and written on the server thread */
+    private static final IdentityHashMap<TileData, TypeState> types = new IdentityHashMap();
+
+    private TickGovernor()
+    {
+    }
+
+    /**
+     * Runs {@link TileA#update(long)} for the tile if neither it nor its tile type is demoted this tick
+     *
+     * @param tile      - tile being updated, server side only
+     * @param worldTime - total world time
+     */
+    static void update(TileA tile, long worldTime)
+    {
+        final TileData data = tile.getTileData();
+        if (data == null || !tile.catchesUp())
+        {
+            tile.runUpdate(worldTime);
+            return;
+        }
+        TypeState type = types.get(data);
+        if (type == null)
+        {
+            type = new TypeState();
+            types.put(data, type);
+        }
+        if (!type.shouldRun(data, worldTime))
+        {
+            return;
+        }
+        final TickBudget budget = tile.tickBudget;
+        if (budget != null && !budget.shouldRun())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        tile.runUpdate(worldTime);
+        final long time = System.nanoTime() - start;
+
+        type.usedNanos += time;
+        final long limit = data.tileBudgetNanos > 0 ? data.tileBudgetNanos : tileBudgetNanos;
+        if (time > limit)
+        {
+            if (budget == null)
+            {
+                tile.tickBudget = new TickBudget();
+            }
+            if (tile.tickBudget.record(true) > 0)
+            {
+                logger.warn(String.format("Tile %s at %d,%d,%d took %.3fms, over its %.3fms budget, now updating every %d ticks",
+                        data.name, tile.xCoord, tile.yCoord, tile.zCoord, time / 1000000.0, limit / 1000000.0, tile.tickBudget.getInterval()));
+            }
+        }
+        else if (budget != null && budget.record(false) < 0)
+        {
+            logger.info(String.format("Tile %s at %d,%d,%d is back under budget, now updating every %d ticks",
+                    data.name, tile.xCoord, tile.yCoord, tile.zCoord, budget.getInterval()));
+        }
+    }
+
+    /** Tick rate and time used of all tiles of one {@link TileData} */
+    private static final class TypeState
+    {
+        /** Tick rate of all tiles of the data */
+        final TickBudget budget = new TickBudget();
+        /** World time the {@link #usedNanos} is being counted for */
+        long tick = -1;
+        /** Time used by updates of the data during {@link #tick} */
+        long usedNanos = 0;
+        /** Did the tiles update during {@link #tick} */
+        boolean ran = false;
+
+        /**
+         * Checks if tiles of the data should update this tick. The first tile
+         * to update in a new tick checks the total time used the tick before.
+         */
+        boolean shouldRun(TileData data, long worldTime)
+        {
+            if (tick != worldTime)
+            {
+                if (ran)
+                {
+                    final long limit = data.typeBudgetNanos > 0 ? data.typeBudgetNanos : typeBudgetNanos;
+                    final int change = budget.record(usedNanos > limit);
+                    if (change > 0)
+                    {
+                        logger.warn(String.format("Tiles of %s took %.3fms in one tick, over their %.3fms budget, now updating every %d ticks",
+                                data.name, usedNanos / 1000000.0, limit / 1000000.0, budget.getInterval()));
+                    }
+                    else if (change < 0)
+                    {
+                        logger.info(String.format("Tiles of %s are back under budget, now updating every %d ticks", data.name, budget.getInterval()));
+                    }
+                }
+                tick = worldTime;
+                usedNanos = 0;
+                ran = budget.shouldRun();
+            }
+            return ran;
+        }
+    }
+}
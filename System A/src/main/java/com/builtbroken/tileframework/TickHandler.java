@@ -0,0 +1,55 @@
+package com.builtbroken.tileframework;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+
+/**
+ * Handles tick events for the framework
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class TickHandler
+{
+    /** Start of the current server tick, used by the {@link LoadShedder} */
+    private long serverTickStart = 0L;
+
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.START)
+        {
+            serverTickStart = System.nanoTime();
+        }
+        else if (serverTickStart != 0L)
+        {
+            LoadShedder.recordTick(System.nanoTime() - serverTickStart);
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.START)
+        {
+            TileInitQueue.process(event.world, TileInitQueue.budgetNanos);
+        }
+        else
+        {
+            TileTicker.tick(event.world);
+        }
+    }
+
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.START)
+        {
+            TileInitQueue.processClient(TileInitQueue.budgetNanos);
+        }
+        else
+        {
+            TileTicker.tickClient();
+        }
+    }
+}
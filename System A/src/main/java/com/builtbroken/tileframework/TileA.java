@@ -15,6 +15,14 @@ import com.builtbroken.mc.lib.transform.region.Cube;
 import com.builtbroken.mc.lib.transform.vector.Location;
 import com.builtbroken.mc.lib.transform.vector.Pos;
 import com.builtbroken.mc.prefab.tile.entity.TileEntityBase;
+import com.builtbroken.tileframework.lib.CollisionDispatcher;
+import com.builtbroken.tileframework.lib.ExplosionBatch;
+import com.builtbroken.tileframework.lib.PackedPos;
+import com.builtbroken.tileframework.lib.ParticleBudget;
+import com.builtbroken.tileframework.lib.RainService;
+import com.builtbroken.tileframework.profiler.Hook;
+import com.builtbroken.tileframework.profiler.TileEvents;
+import com.builtbroken.tileframework.profiler.TileProfiler;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import net.minecraft.block.Block;
@@ -44,6 +52,7 @@ import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL12;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -66,6 +75,58 @@ import java.util.List;
  */
 public abstract class TileA extends TileEntityBase implements IWorldPosition, IPlayerUsing, IRegistryInit
 {
+    /** Tile class overrides a {@link Pos} neighbor hook */
+    static final int POS_NEIGHBOR = 1;
+    /** Tile class overrides a {@link Pos} activation hook */
+    static final int POS_ACTIVATE = 2;
+    /** Tile class overrides the {@link Pos} explosion resistance hook */
+    static final int POS_EXPLOSION = 4;
+
+    /** Which of the {@link Pos} hooks each tile class overrides, so the primitive hooks only create one when needed */
+    private static final ClassValue<Integer> posHooks = new ClassValue<Integer>()
+    {
+        @Override
+        protected Integer computeValue(Class<?> type)
+        {
+            int hooks = 0;
+            if (overrides(type, "onNeighborChanged", Pos.class))
+            {
+                hooks |= POS_NEIGHBOR;
+            }
+            if (overrides(type, "onPlayerActivated", EntityPlayer.class, int.class, Pos.class)
+                    || overrides(type, "onPlayerRightClick", EntityPlayer.class, int.class, Pos.class)
+                    || overrides(type, "onPlayerRightClickWrench", EntityPlayer.class, int.class, Pos.class))
+            {
+                hooks |= POS_ACTIVATE;
+            }
+            if (overrides(type, "getExplosionResistance", Entity.class, Pos.class))
+            {
+                hooks |= POS_EXPLOSION;
+            }
+            return hooks;
+        }
+    };
+
+    /** Does each tile class override {@link #randomDisplayTick()}, only those use up the {@link ParticleBudget} */
+    private static final ClassValue<Boolean> displayTicks = new ClassValue<Boolean>()
+    {
+        @Override
+        protected Boolean computeValue(Class<?> type)
+        {
+            return overrides(type, "randomDisplayTick");
+        }
+    };
+
+    /** Does each tile class override {@link #update(long)}, and so can catch up on ticks it was not updated for */
+    private static final ClassValue<Boolean> catchesUp = new ClassValue<Boolean>()
+    {
+        @Override
+        protected Boolean computeValue(Class<?> type)
+        {
+            return overrides(type, "update", long.class);
+        }
+    };
+
     //============= External data points =======
     //Do not change, or modifies this data inside a tile
     /** STATIC BLOCK, injected by the BlockTile for methods calls */
@@ -92,6 +153,26 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
     public long ticks = 0L;
     /** TILE, Next tick when cleanup code will be called to check the sanity of the tile */
     protected int nextCleanupTick = 200;
+    /** TILE, Cached comparator level, -1 if it has not been calculated yet */
+    private int comparatorOutput = -1;
+    /** TILE, Has {@link #initialize()} been called */
+    private boolean initialized = false;
+    /** TILE, Is the tile waiting in the {@link TileInitQueue} */
+    private boolean queuedForInit = false;
+    /** TILE, {@link #onAdded()} was delayed until the tile is initialized */
+    private boolean pendingAdded = false;
+    /** TILE, Tick rate set by the {@link TickGovernor}, null until the tile first goes over budget */
+    TickBudget tickBudget = null;
+    /** TILE, World time of the last {@link #update(long)}, -1 if it has not updated yet */
+    private long lastUpdateTime = -1L;
+    /** TILE, Round-robin slot used by the {@link LoadShedder} to spread deferred updates */
+    private final int shedSlot = LoadShedder.nextSlot();
+    /** TILE, Is the tile in its world's {@link TileTicker} */
+    private boolean inTicker = false;
+    /** TILE, Sort key of the tile in the {@link TileTicker} */
+    long tickerKey;
+    /** TILE, Is the tile getting rain from the {@link RainService} */
+    private boolean inRainService = false;
 
 
     /**
@@ -128,9 +209,13 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
      *
      * @return Normally you want to return a new instance of this but
      * can do anything you want. Null will tell the registery system
-     * that this block spawns no TileEntities
+     * that this block spawns no TileEntities. By default creates
+     * a new instance of this class using its {@link TileFactory}.
      */
-    public abstract TileA newTile();
+    public TileA newTile()
+    {
+        return TileData.getFactoryFor(getClass()).create();
+    }
 
     /**
      * BLOCK
@@ -154,13 +239,43 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
     @Override
     public final void updateEntity()
     {
-        if (ticks == 0)
+        final long start = TileProfiler.start();
+        updateTile();
+        if (start != 0L)
         {
-            firstTick();
+            TileProfiler.end(getTileData().getStats(), Hook.UPDATE, start, xCoord, yCoord, zCoord);
+        }
+    }
+
+    private void updateTile()
+    {
+        if (!initialized)
+        {
+            //Waiting on the init queue, no hooks run until then
+            if (queuedForInit)
+            {
+                return;
+            }
+            initialize();
         }
         else
         {
-            update();
+            final long time = worldObj.getTotalWorldTime();
+            if (worldObj.isRemote)
+            {
+                runUpdate(time);
+            }
+            else if (!LoadShedder.enabled || LoadShedder.shouldUpdate(getShedPriority(), shedSlot, time))
+            {
+                if (TickGovernor.enabled)
+                {
+                    TickGovernor.update(this, time);
+                }
+                else
+                {
+                    runUpdate(time);
+                }
+            }
         }
 
         //Increase tick
@@ -173,6 +288,10 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
         {
             doCleanupCheck();
             nextCleanupTick = getNextCleanupTick();
+            if (dematerializeIfDefault())
+            {
+                return;
+            }
         }
         if (getPlayersUsing().size() > 0)
         {
@@ -195,6 +314,143 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
     }
 
 
+    /**
+     * TILE, Called when the tile is added to the world. Queues the
+     * tile to be initialized if {@link TileData#batchInit} is enabled.
+     */
+    @Override
+    public void validate()
+    {
+        super.validate();
+        if (!isBlock && !initialized && !queuedForInit && world() != null && getTileData() != null && getTileData().batchInit)
+        {
+            queuedForInit = true;
+            TileInitQueue.get(world()).add(this);
+        }
+        if (!isBlock && !inTicker && world() != null && getTileData() != null && getTileData().sortedTicking)
+        {
+            inTicker = true;
+            TileTicker.get(world()).add(this);
+        }
+        if (!isBlock && !inRainService && world() != null && !world().isRemote && getTileData() != null && getTileData().rainInterval > 0)
+        {
+            inRainService = true;
+            RainService.get(world()).add(this, (BlockTileA) getTileData().block, getTileData().rainInterval);
+        }
+    }
+
+    /**
+     * TILE, Called when the tile is removed from the world. Removes the tile
+     * from the {@link TileTicker} and {@link RainService} if it was in them.
+     */
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        removeFromTicker();
+        removeFromRainService();
+    }
+
+    /**
+     * TILE, Tiles using {@link TileData#sortedTicking} are updated by
+     * the {@link TileTicker}, so are kept out of the world's tile list.
+     */
+    @Override
+    public boolean canUpdate()
+    {
+        return getTileData() == null || !getTileData().sortedTicking;
+    }
+
+    private void removeFromTicker()
+    {
+        if (inTicker)
+        {
+            inTicker = false;
+            final TileTicker ticker = world() != null ? TileTicker.getExisting(world()) : null;
+            if (ticker != null)
+            {
+                ticker.remove(this);
+            }
+        }
+    }
+
+    private void removeFromRainService()
+    {
+        if (inRainService)
+        {
+            inRainService = false;
+            final RainService service = world() != null ? RainService.getExisting(world()) : null;
+            if (service != null)
+            {
+                service.remove(this);
+            }
+        }
+    }
+
+    /**
+     * TILE, Runs the tile's init code, {@link #onAdded()} if it was delayed and then
+     * {@link #firstTick()}. Does nothing if the tile has already been initialized.
+     */
+    public final void initialize()
+    {
+        if (!initialized)
+        {
+            initialized = true;
+            queuedForInit = false;
+            if (pendingAdded)
+            {
+                pendingAdded = false;
+                onAdded();
+            }
+            firstTick();
+        }
+    }
+
+    /**
+     * TILE, Initializes the tile now if it is still waiting in the {@link TileInitQueue}. Called
+     * by the block before every hook and before the description packet is built.
+     * <p/>
+     * Not called for {@link #readFromNBT(NBTTagCompound)}, which runs before the tile is in the
+     * world, or {@link #writeToNBT(NBTTagCompound)}, which runs while the chunk is being saved and
+     * must not change the world. A TESR or packet handler that reaches the tile directly and needs
+     * its init code to have run should call this first.
+     */
+    public final void ensureInitialized()
+    {
+        if (queuedForInit)
+        {
+            initialize();
+        }
+    }
+
+    /** TILE, Is the tile waiting in the {@link TileInitQueue}, cleared once initialized or unloaded */
+    final boolean isQueuedForInit()
+    {
+        return queuedForInit;
+    }
+
+    /** TILE, Has the tile run its init code */
+    public final boolean isInitialized()
+    {
+        return initialized;
+    }
+
+    /**
+     * TILE, Called by the block when it is added to the world. If the tile is waiting
+     * to be initialized then {@link #onAdded()} is delayed until then.
+     */
+    public void onBlockAdded()
+    {
+        if (queuedForInit && !initialized)
+        {
+            pendingAdded = true;
+        }
+        else
+        {
+            onAdded();
+        }
+    }
+
     /** BLOCK, called from the world when the block is updated */
     public void blockUpdate()
     {
@@ -220,6 +476,74 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
 
     }
 
+    /**
+     * TILE, Called in place of {@link #update()} with the number of ticks since the last
+     * update. Normally 1, but can be more while the server is behind, see {@link LoadShedder}
+     * and {@link TickGovernor}. Override to catch up on the missed ticks.
+     *
+     * @param elapsedTicks - ticks since the last update, at least 1
+     */
+    public void update(long elapsedTicks)
+    {
+        update();
+    }
+
+    /** Calls {@link #update(long)} with the ticks since the last update */
+    final void runUpdate(long worldTime)
+    {
+        final long elapsed = lastUpdateTime < 0 || worldTime <= lastUpdateTime ? 1 : worldTime - lastUpdateTime;
+        lastUpdateTime = worldTime;
+        update(elapsed);
+    }
+
+    /**
+     * Gets the tile object to store per block state in. For blocks using {@link TileData#lazyTile}
+     * the static version of the tile will create the TileEntity at the current location, so call
+     * this before changing any state from a BLOCK method.
+     *
+     * @return tile instance for the location, this if already a tile
+     * @throws IllegalStateException if called on the static tile without a world injected
+     */
+    public TileA requireInstance()
+    {
+        if (!isBlock)
+        {
+            return this;
+        }
+        if (world() == null)
+        {
+            throw new IllegalStateException("Can not create a tile without a world, " + this);
+        }
+        return getTileBlock().materialize(world(), xi(), yi(), zi());
+    }
+
+    /**
+     * TILE, Is the tile's state the same as a newly placed tile. Used by blocks with
+     * {@link TileData#lazyTile} to remove the TileEntity once it is no longer needed.
+     *
+     * @return true if the tile stores nothing the static tile can't provide
+     */
+    public boolean isDefaultState()
+    {
+        return false;
+    }
+
+    /**
+     * TILE, Removes the TileEntity from the world if {@link TileData#lazyTile}
+     * is enabled and the tile is back to its {@link #isDefaultState()}
+     *
+     * @return true if the tile was removed
+     */
+    public boolean dematerializeIfDefault()
+    {
+        if (!isBlock && world() != null && getTileData().lazyTile && getPlayersUsing().isEmpty() && isDefaultState())
+        {
+            getTileBlock().dematerialize(world(), xi(), yi(), zi());
+            return true;
+        }
+        return false;
+    }
+
     /**
      * TILE,
      * Called each tick that users
@@ -305,6 +629,65 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
         return false;
     }
 
+    /**
+     * Called when the player right clicks the block. Same as {@link #onPlayerActivated(EntityPlayer, int, Pos)}
+     * without creating a Pos, one is only created if the tile overrides the Pos version of the hooks.
+     *
+     * @param player - player who clicked the block
+     * @param side   - side of the block clicked as an int(0-5)
+     * @param hitX   - x of the spot hit on the block, 0 to 1
+     * @param hitY   - y of the spot hit on the block, 0 to 1
+     * @param hitZ   - z of the spot hit on the block, 0 to 1
+     * @return true if the click event was used
+     */
+    public boolean onPlayerActivated(EntityPlayer player, int side, float hitX, float hitY, float hitZ)
+    {
+        if (usesPosHook(POS_ACTIVATE))
+        {
+            return onPlayerActivated(player, side, new Pos(hitX, hitY, hitZ));
+        }
+        if (WrenchUtility.isUsableWrench(player, player.inventory.getCurrentItem(), xi(), yi(), zi()))
+        {
+            if (onPlayerRightClickWrench(player, side, hitX, hitY, hitZ))
+            {
+                WrenchUtility.damageWrench(player, player.inventory.getCurrentItem(), xi(), yi(), zi());
+                return true;
+            }
+            return false;
+        }
+        return onPlayerRightClick(player, side, hitX, hitY, hitZ);
+    }
+
+    /**
+     * Called when the player has clicked a block with something other than a wrench
+     *
+     * @param player - player who clicked the block, don't assume EntityPlayerMP as it can be a fake player
+     * @param side   - side of the block clicked as an int(0-5)
+     * @param hitX   - x of the spot hit on the block, 0 to 1
+     * @param hitY   - y of the spot hit on the block, 0 to 1
+     * @param hitZ   - z of the spot hit on the block, 0 to 1
+     * @return true if the click event was used
+     */
+    protected boolean onPlayerRightClick(EntityPlayer player, int side, float hitX, float hitY, float hitZ)
+    {
+        return false;
+    }
+
+    /**
+     * Called when the player uses a supported wrench on the block
+     *
+     * @param player - player who clicked the block, don't assume EntityPlayerMP as it can be a fake player
+     * @param side   - side of the block clicked as an int(0-5)
+     * @param hitX   - x of the spot hit on the block, 0 to 1
+     * @param hitY   - y of the spot hit on the block, 0 to 1
+     * @param hitZ   - z of the spot hit on the block, 0 to 1
+     * @return true if the click event was used
+     */
+    protected boolean onPlayerRightClickWrench(EntityPlayer player, int side, float hitX, float hitY, float hitZ)
+    {
+        return false;
+    }
+
     /**
      * Opens the main gui for this tile
      */
@@ -547,11 +930,41 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
     {
     }
 
+    /**
+     * TILE, Called when the chunk the tile is in unloads. Removes the tile from the
+     * {@link TileTicker} and {@link RainService}, and from the {@link TileInitQueue}
+     * so the init code never runs on an unloaded tile.
+     */
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        queuedForInit = false;
+        pendingAdded = false;
+        removeFromTicker();
+        removeFromRainService();
+    }
+
     public void onDestroyedByExplosion(Explosion ex)
     {
 
     }
 
+    /**
+     * BLOCK, Called once per explosion with every block of this tile it destroyed. Overriding
+     * this switches the block over to batching, {@link #onDestroyedByExplosion(Explosion)} is
+     * then no longer called. Runs at the end of the explosion rather than per block, see
+     * {@link ExplosionBatch}. The tiles are already removed from the world at this point.
+     *
+     * @param ex        - explosion
+     * @param positions - destroyed positions, see {@link PackedPos}
+     * @param count     - number of positions
+     */
+    public void onDestroyedByExplosion(Explosion ex, long[] positions, int count)
+    {
+
+    }
+
     /**
      * Called when a neighbor block changes
      *
@@ -570,6 +983,20 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
     {
     }
 
+    /**
+     * Called when a neighbor tile changes. Calls {@link #onNeighborChanged(Pos)}
+     * if the tile overrides it, override this instead to avoid creating the Pos.
+     *
+     * @param pos - position of the tile that changed, see {@link PackedPos}
+     */
+    public void onNeighborChanged(long pos)
+    {
+        if (usesPosHook(POS_NEIGHBOR))
+        {
+            onNeighborChanged(PackedPos.toPos(pos));
+        }
+    }
+
     /**
      * Called when an entity collides with this block.
      */
@@ -577,6 +1004,21 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
     {
     }
 
+    /**
+     * Called once per tick with every entity colliding with this block. Only used when
+     * {@link TileData#collisionCooldown} is set or this is overridden, otherwise
+     * {@link #onCollide(Entity)} is called directly as entities collide.
+     *
+     * @param entities - entities touching the block, see {@link CollisionDispatcher}
+     */
+    public void onCollide(Collection<Entity> entities)
+    {
+        for (Entity entity : entities)
+        {
+            onCollide(entity);
+        }
+    }
+
     /**
      * Called when a rain particle hits this block
      */
@@ -584,6 +1026,17 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
     {
     }
 
+    /**
+     * Called by the {@link RainService} when {@link TileData#rainInterval} is set, in
+     * place of {@link #onFillRain()}. Calls {@link #onFillRain()} once by default.
+     *
+     * @param rainTicks - number of ticks it has rained since the last call
+     */
+    public void onFillRain(int rainTicks)
+    {
+        onFillRain();
+    }
+
     //==========================
     //==== Triggers ============
     //==========================
@@ -723,6 +1176,59 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
         return 0;
     }
 
+    /**
+     * Gets the level a comparator reads from this tile. Only called
+     * if {@link TileData#hasComparatorOutput} is true. The value is
+     * cached per tile so comparators reading it each tick cost nothing.
+     *
+     * @param side - side the comparator is reading from
+     * @return level from 0 - 15
+     */
+    public int getComparatorOutput(int side)
+    {
+        if (isBlock)
+        {
+            return Math.max(0, Math.min(15, calculateComparatorOutput()));
+        }
+        if (comparatorOutput < 0)
+        {
+            comparatorOutput = Math.max(0, Math.min(15, calculateComparatorOutput()));
+        }
+        return comparatorOutput;
+    }
+
+    /**
+     * Calculates the comparator level from the current state of the tile. Don't
+     * call this directly, use {@link #updateComparatorOutput()} when the state changes.
+     *
+     * @return level from 0 - 15
+     */
+    protected int calculateComparatorOutput()
+    {
+        return 0;
+    }
+
+    /**
+     * TILE, Call when the state of the tile changes in a way that could change
+     * the comparator level. Neighbor comparators are only notified when
+     * the level actually changes.
+     */
+    protected void updateComparatorOutput()
+    {
+        if (!isBlock && getTileData().hasComparatorOutput)
+        {
+            int level = Math.max(0, Math.min(15, calculateComparatorOutput()));
+            if (level != comparatorOutput)
+            {
+                comparatorOutput = level;
+                if (world() != null)
+                {
+                    world().func_147453_f(xi(), yi(), zi(), getBlockType());
+                }
+            }
+        }
+    }
+
     public void setBlockBoundsBasedOnState()
     {
 
@@ -812,6 +1318,86 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
         return getExplosionResistance(entity);
     }
 
+    /**
+     * Gets the explosive resistance of this block. Calls {@link #getExplosionResistance(Entity, Pos)}
+     * if the tile overrides it, override this instead to avoid creating the Pos.
+     *
+     * @param entity     - The affecting entity
+     * @param explosionX - x of the center of the explosion
+     * @param explosionY - y of the center of the explosion
+     * @param explosionZ - z of the center of the explosion
+     * @return A value representing the explosive resistance
+     */
+    public float getExplosionResistance(Entity entity, double explosionX, double explosionY, double explosionZ)
+    {
+        if (usesPosHook(POS_EXPLOSION))
+        {
+            return getExplosionResistance(entity, new Pos(explosionX, explosionY, explosionZ));
+        }
+        return getExplosionResistance(entity);
+    }
+
+    /**
+     * Checks if the tile class overrides one of the hooks that take a {@link Pos}
+     *
+     * @param hook - {@link #POS_NEIGHBOR}, {@link #POS_ACTIVATE} or {@link #POS_EXPLOSION}
+     * @return true if the Pos version needs to be called
+     */
+    protected final boolean usesPosHook(int hook)
+    {
+        return (posHooks.get(getClass()) & hook) != 0;
+    }
+
+    /** Checks if the tile overrides {@link #randomDisplayTick()}, tiles that don't spawn no particles */
+    final boolean hasDisplayTick()
+    {
+        return displayTicks.get(getClass());
+    }
+
+    /**
+     * Priority the {@link LoadShedder} uses for the tile. Tiles that don't override {@link #update(long)},
+     * or have no data, are treated as {@link TilePriority#CRITICAL} as they can't make up for skipped ticks.
+     */
+    private TilePriority getShedPriority()
+    {
+        final TileData data = getTileData();
+        return data != null && catchesUp() ? data.priority : TilePriority.CRITICAL;
+    }
+
+    /**
+     * Checks if the tile overrides {@link #update(long)}. Tiles that don't can't make up for skipped
+     * ticks, so they are never slowed down by the {@link TickGovernor} or {@link LoadShedder}.
+     */
+    final boolean catchesUp()
+    {
+        return catchesUp.get(getClass());
+    }
+
+    /**
+     * Checks if a class below TileA declares the method
+     *
+     * @param type   - tile class
+     * @param name   - method name
+     * @param params - method params
+     * @return true if the method is overridden
+     */
+    static boolean overrides(Class<?> type, String name, Class<?>... params)
+    {
+        for (Class<?> c = type; c != null && c != TileA.class; c = c.getSuperclass())
+        {
+            try
+            {
+                c.getDeclaredMethod(name, params);
+                return true;
+            }
+            catch (NoSuchMethodException e)
+            {
+                //Keep looking in the super class
+            }
+        }
+        return false;
+    }
+
     /**
      * Gets the explosive resistance of this block.
      * Note: Called without the world object being present.
@@ -1057,15 +1643,27 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
 
     public NBTTagCompound getSaveData()
     {
+        final long start = TileEvents.nbtEnabled ? System.nanoTime() : 0L;
         NBTTagCompound tag = new NBTTagCompound();
         writeToNBT(tag);
+        if (start != 0L)
+        {
+            TileEvents.nbtSave(getTileData().getStats().name, xCoord, yCoord, zCoord, System.nanoTime() - start);
+        }
         return tag;
     }
 
     @Override
     public final Packet getDescriptionPacket()
     {
-        return Engine.instance.packetHandler.toMCPacket(getDescPacket());
+        ensureInitialized();
+        final long start = TileEvents.packetEnabled ? System.nanoTime() : 0L;
+        Packet packet = Engine.instance.packetHandler.toMCPacket(getDescPacket());
+        if (start != 0L)
+        {
+            TileEvents.packetSend(getTileData().getStats().name, xCoord, yCoord, zCoord, System.nanoTime() - start);
+        }
+        return packet;
     }
 
     public AbstractPacket getDescPacket()
@@ -1101,7 +1699,12 @@ public abstract class TileA extends TileEntityBase implements IWorldPosition, IP
     {
         if (isServer())
         {
+            final long start = TileEvents.packetEnabled ? System.nanoTime() : 0L;
             Engine.instance.packetHandler.sendToAllAround(packet, world(), xi(), yi(), zi(), distance);
+            if (start != 0L)
+            {
+                TileEvents.packetSend(getTileData().getStats().name, xi(), yi(), zi(), System.nanoTime() - start);
+            }
         }
     }
 
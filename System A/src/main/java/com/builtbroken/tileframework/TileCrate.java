@@ -0,0 +1,22 @@
+package com.builtbroken.tileframework;
+
+import com.builtbroken.tileframework.api.Tile;
+
+/**
+ * Plain storage block used to test tiles registered through the tile index.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+@Tile(data = TileCrateData.class, id = "tmod_SystemA:crate")
+public class TileCrate extends TileA
+{
+    public TileCrate()
+    {
+    }
+
+    public TileCrate(TileData data)
+    {
+        super(data);
+    }
+}
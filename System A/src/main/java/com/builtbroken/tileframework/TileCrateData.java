@@ -0,0 +1,28 @@
+package com.builtbroken.tileframework;
+
+import com.builtbroken.mc.lib.transform.region.Cube;
+import com.builtbroken.tileframework.api.IMod;
+
+/**
+ * Data for {@link TileCrate}. The tile is registered from the tile index, see {@link TileIndex}.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class TileCrateData extends TileData
+{
+    public TileCrateData(IMod mod)
+    {
+        super(mod);
+        this.name = "crate";
+        this.textureName = "crate";
+        this.bounds = new Cube(0, 0, 0, 1, 1, 1);
+        this.staticTile = new TileCrate(this);
+    }
+
+    @Override
+    public void registerTiles()
+    {
+        //Registered by the tile index
+    }
+}
@@ -2,13 +2,22 @@ package com.builtbroken.tileframework;
 
 import com.builtbroken.mc.lib.render.block.BlockRenderHandler;
 import com.builtbroken.mc.lib.transform.region.Cube;
+import com.builtbroken.mc.lib.transform.vector.Pos;
 import com.builtbroken.tileframework.api.IMod;
+import com.builtbroken.tileframework.lib.CollisionDispatcher;
+import com.builtbroken.tileframework.lib.DropTable;
+import com.builtbroken.tileframework.lib.ParticleBudget;
+import com.builtbroken.tileframework.lib.RainService;
+import com.builtbroken.tileframework.profiler.TileProfiler;
+import com.builtbroken.tileframework.profiler.TileStats;
+import cpw.mods.fml.common.registry.GameRegistry;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import net.minecraft.block.Block;
 import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.block.material.Material;
 import net.minecraft.creativetab.CreativeTabs;
+import net.minecraft.entity.Entity;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.IIcon;
@@ -22,7 +31,37 @@ import java.util.HashMap;
  */
 public abstract class TileData implements ITileEntityProvider
 {
-    protected static final HashMap<Class<? extends TileA>, TileData> classToData = new HashMap();
+    /** Tile classes registered to data objects, only written to during registration */
+    private static final HashMap<Class<? extends TileA>, TileData> classToData = new HashMap();
+
+    /**
+     * Lock free lookup of {@link #classToData}. Each class is resolved once then read
+     * without locking, which matters as every tile created during chunk load does a lookup.
+     */
+    private static final ClassValue<TileData> dataLookup = new ClassValue<TileData>()
+    {
+        @Override
+        protected TileData computeValue(Class<?> type)
+        {
+            synchronized (classToData)
+            {
+                return classToData.get(type);
+            }
+        }
+    };
+
+    /** Factory for each registered tile class, created when the class is registered */
+    private static final ClassValue<TileFactory> factoryLookup = new ClassValue<TileFactory>()
+    {
+        @Override
+        protected TileFactory computeValue(Class<?> type)
+        {
+            return new TileFactory(type.asSubclass(TileA.class));
+        }
+    };
+
+    /** Set once init has finished, no tiles can be registered after this point */
+    private static volatile boolean registryLocked = false;
 
     /** Mod object that created this tile */
     public final IMod mod;
@@ -46,6 +85,15 @@ public abstract class TileData implements ITileEntityProvider
     public float resistance = 1;
     /** Can this tile emmit redstone */
     public boolean canEmmitRedstone = false;
+    /**
+     * Items dropped when broken, worked out by the block without calling the tile. Leave
+     * null for tiles whose drops depend on their state, {@link TileA#getDrops(int, int)} is used instead.
+     */
+    public DropTable drops;
+    /** Does any tile class of this data work out its explosion resistance from the position or tile, set as tiles are registered */
+    boolean dynamicResistance = false;
+    /** Does this tile provide a level to comparators, see {@link TileA#getComparatorOutput(int)} */
+    public boolean hasComparatorOutput = false;
     /** Is the block solid (true) or can it be seen threw (false) */
     public boolean isOpaque = false;
     /** Sound this tile makes when entities step on it */
@@ -72,27 +120,188 @@ public abstract class TileData implements ITileEntityProvider
     /** Wrapper for block calls that can not be sent to TileEntity */
     public TileA staticTile;
 
+    /** Factory of the first tile class registered, used to create new tiles for the block */
+    protected TileFactory tileFactory;
+
+    /**
+     * Should newly loaded tiles be initialized through the {@link TileInitQueue} over several ticks,
+     * rather than all on their first update. Tiles are initialized before any block hook runs, see
+     * {@link TileA#ensureInitialized()} for the paths that are not covered.
+     * Off by default as it changes when {@link TileA#firstTick()} runs.
+     */
+    public boolean batchInit = false;
+
+    /**
+     * Places the block without a TileEntity. One is only created once the tile needs to store its own state,
+     * see {@link TileA#requireInstance()}, and removed again once {@link TileA#isDefaultState()} returns true.
+     * Useful for decorative or mostly idle tiles that can run off of {@link #staticTile}.
+     */
+    public boolean lazyTile = false;
+
+    /**
+     * Create the block using a class generated for this tile, see {@link BlockSpecializer}. Lets the JIT
+     * inline the tile's hooks, but the block will no longer see changes made to this object after registration.
+     */
+    public boolean specializeBlock = false;
+
+    /**
+     * Update tiles through the {@link TileTicker}, in position order, rather than the world's tile list.
+     * Helps tiles that look at their neighbors each tick, such as pipes and cables.
+     */
+    public boolean sortedTicking = false;
+
+    /** How important updates of the tile are while the server is behind, see {@link LoadShedder} */
+    public TilePriority priority = TilePriority.NORMAL;
+
+    /**
+     * Ticks before the same entity is passed to {@link TileA#onCollide(java.util.Collection)} again for the same block,
+     * zero for every tick. Setting this groups collisions through the {@link CollisionDispatcher}.
+     */
+    public int collisionCooldown = 0;
+
+    /**
+     * Ticks between rain deliveries from the {@link RainService}, zero to use the world's random
+     * rain callback. Tiles get {@link TileA#onFillRain(int)} with the rain since the last delivery.
+     */
+    public int rainInterval = 0;
+
+    /** Share of the {@link ParticleBudget} each display tick of the tile uses, zero to never be limited */
+    public float particleWeight = 1;
+
+    /** Max time in nanoseconds a single update of the tile should take, zero uses {@link TickGovernor#tileBudgetNanos} */
+    public long tileBudgetNanos = 0;
+
+    /** Max time in nanoseconds all tiles of this data should take each tick, zero uses {@link TickGovernor#typeBudgetNanos} */
+    public long typeBudgetNanos = 0;
+
+    /** Hook timing of this tile, created on first use */
+    private TileStats stats;
+
     public TileData(IMod mod)
     {
         this.mod = mod;
     }
 
+    /**
+     * Gets the stats used by the {@link TileProfiler} to time this tile's hooks
+     *
+     * @return stats, never null
+     */
+    public TileStats getStats()
+    {
+        if (stats == null)
+        {
+            stats = TileProfiler.getStats(mod.getDomain() + ":" + name);
+        }
+        return stats;
+    }
+
+    /**
+     * Creates a new tile for the block. Uses the factory of the first registered
+     * tile class, falling back to {@link TileA#newTile(World, int)} if no
+     * classes were registered.
+     */
     @Override
-    public abstract TileEntity createNewTileEntity(World p_149915_1_, int p_149915_2_);
+    public TileEntity createNewTileEntity(World world, int meta)
+    {
+        if (tileFactory != null)
+        {
+            return tileFactory.create();
+        }
+        return staticTile != null ? staticTile.newTile(world, meta) : null;
+    }
 
     /**
-     * Called to register {@link TileA} class that will use this data object. IF you
+     * Called to register {@link TileA} class that will use this data object, see {@link #registerTile(Class)}. IF you
      * do not register the class you will need to provide an alt way to get the TileData object.
      * As it is needed in order for several methods in the {@link TileA} class to function.
      */
     public abstract void registerTiles();
 
-    public static TileData getDataFor(Class<? extends TileA> aClass)
+    /**
+     * Registers the {@link TileA} class to this data object. Should only be
+     * called from {@link #registerTiles()}.
+     *
+     * @param clazz - tile class
+     * @throws IllegalStateException if called after the registry has been locked
+     */
+    protected void registerTile(Class<? extends TileA> clazz)
     {
-        if (classToData.containsKey(aClass))
+        synchronized (classToData)
+        {
+            if (registryLocked)
+            {
+                throw new IllegalStateException("Tiles can not be registered after init, " + clazz);
+            }
+            classToData.put(clazz, this);
+        }
+        //Clear anything cached by a lookup done before the class was registered
+        dataLookup.remove(clazz);
+        dynamicResistance |= hasDynamicResistance(clazz);
+
+        //Resolve the constructor now so a bad tile class fails at startup rather than on chunk load
+        TileFactory factory = factoryLookup.get(clazz);
+        if (tileFactory == null)
         {
-            return classToData.get(aClass);
+            tileFactory = factory;
         }
-        return null;
+    }
+
+    /**
+     * Checks if the tile class overrides one of the explosion resistance hooks that are given the
+     * position, or the entity only hook as it can read the state of the tile. Tiles that don't are
+     * asked for their resistance through the static tile without looking up the tile.
+     *
+     * @param clazz - tile class
+     * @return true if the resistance can change with the position or tile
+     */
+    static boolean hasDynamicResistance(Class<? extends TileA> clazz)
+    {
+        return TileA.overrides(clazz, "getExplosionResistance", Entity.class, Pos.class)
+                || TileA.overrides(clazz, "getExplosionResistance", Entity.class, double.class, double.class, double.class)
+                || TileA.overrides(clazz, "getExplosionResistance", Entity.class);
+    }
+
+    /**
+     * Registers the {@link TileA} class to this data object along with the id
+     * it is saved to NBT with. Also registers the tile with the game.
+     * <p/>
+     * Tiles loaded from chunk NBT are still created by vanilla, which looks the class up by id and
+     * calls its constructor by reflection. Forge for 1.7.10 has no hook ahead of that call, so only
+     * tiles created by the block, {@link TileA#newTile()} and lazy tiles go through the {@link TileFactory}.
+     *
+     * @param clazz - tile class
+     * @param id    - unique id the tile is saved with
+     */
+    protected void registerTile(Class<? extends TileA> clazz, String id)
+    {
+        registerTile(clazz);
+        GameRegistry.registerTileEntity(clazz, id);
+    }
+
+    /**
+     * Called after init to prevent any more tiles from being registered. After
+     * this point the values returned by {@link #getDataFor(Class)} never change.
+     */
+    public static void lockRegistry()
+    {
+        registryLocked = true;
+    }
+
+    public static TileData getDataFor(Class<? extends TileA> aClass)
+    {
+        return dataLookup.get(aClass);
+    }
+
+    /**
+     * Gets the factory used to create tiles of the class
+     *
+     * @param aClass - tile class, should be registered
+     * @return factory, never null
+     * @throws IllegalArgumentException if the class has no public no-arg constructor
+     */
+    public static TileFactory getFactoryFor(Class<? extends TileA> aClass)
+    {
+        return factoryLookup.get(aClass);
     }
 }
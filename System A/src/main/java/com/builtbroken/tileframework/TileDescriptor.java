@@ -0,0 +1,104 @@
+package com.builtbroken.tileframework;
+
+import net.minecraft.world.Explosion;
+
+import java.util.Collection;
+
+/**
+ * Values derived from a {@link TileData} that the block needs when it is created. Building
+ * this does not touch any game registry so it can be done off of the main thread.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TileDescriptor
+{
+    /** Static tile's resistance can change with the position, see {@link TileData#hasDynamicResistance(Class)} */
+    public static final int DYNAMIC_RESISTANCE = 1;
+    /** Static tile takes all blocks destroyed by an explosion in one call */
+    public static final int BATCH_EXPLOSIONS = 1 << 1;
+    /** Static tile overrides {@link TileA#onCollide(Collection)} */
+    public static final int BATCH_COLLISIONS = 1 << 2;
+
+    /** Data object the values were taken from */
+    public final TileData data;
+
+    /** Unlocalized name of the block, prefix + name */
+    public final String unlocalizedName;
+
+    /** Texture name of the block, prefix + texture name */
+    public final String textureName;
+
+    /** Block bounds as minX, minY, minZ, maxX, maxY, maxZ */
+    public final float[] bounds;
+
+    /** Hooks the static tile overrides, see {@link #DYNAMIC_RESISTANCE} and the other flags */
+    public final int capabilities;
+
+    /** Time taken to build the descriptor in nanoseconds */
+    long prepareTime;
+
+    /** Was the descriptor loaded from a {@link RegistrySnapshot} */
+    final boolean fromSnapshot;
+
+    /**
+     * Creates a descriptor from values that were already derived, see {@link RegistrySnapshot}.
+     * The capabilities are always worked out again from the loaded static tile class, as the
+     * snapshot has no way to tell if the class changed since it was saved.
+     */
+    public TileDescriptor(TileData data, String unlocalizedName, String textureName, float[] bounds)
+    {
+        this.data = data;
+        this.unlocalizedName = unlocalizedName;
+        this.textureName = textureName;
+        this.bounds = bounds;
+        this.capabilities = getCapabilities(data.staticTile != null ? data.staticTile.getClass() : null);
+        this.fromSnapshot = true;
+    }
+
+    public TileDescriptor(TileData data)
+    {
+        this.data = data;
+        this.unlocalizedName = data.mod.getPrefix() + data.name;
+        this.textureName = data.mod.getPrefix() + data.textureName;
+        this.bounds = new float[]{
+                (float) data.bounds.min().x(), (float) data.bounds.min().y(), (float) data.bounds.min().z(),
+                (float) data.bounds.max().x(), (float) data.bounds.max().y(), (float) data.bounds.max().z()
+        };
+        this.capabilities = getCapabilities(data.staticTile != null ? data.staticTile.getClass() : null);
+        this.fromSnapshot = false;
+    }
+
+    /** Checks if the static tile has the capability, see {@link #DYNAMIC_RESISTANCE} and the other flags */
+    public boolean has(int capability)
+    {
+        return (capabilities & capability) != 0;
+    }
+
+    /**
+     * Works out which hooks the static tile class overrides
+     *
+     * @param clazz - class of the static tile, can be null
+     * @return capability flags
+     */
+    static int getCapabilities(Class<? extends TileA> clazz)
+    {
+        int capabilities = 0;
+        if (clazz != null)
+        {
+            if (TileData.hasDynamicResistance(clazz))
+            {
+                capabilities |= DYNAMIC_RESISTANCE;
+            }
+            if (TileA.overrides(clazz, "onDestroyedByExplosion", Explosion.class, long[].class, int.class))
+            {
+                capabilities |= BATCH_EXPLOSIONS;
+            }
+            if (TileA.overrides(clazz, "onCollide", Collection.class))
+            {
+                capabilities |= BATCH_COLLISIONS;
+            }
+        }
+        return capabilities;
+    }
+}
@@ -0,0 +1,63 @@
+package com.builtbroken.tileframework;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Creates new instances of a registered {@link TileA} class without going through reflection. The
+ * constructor handle is resolved once when the class is registered, after which each call is a
+ * plain constructor invocation.
+ * <p/>
+ * Used for tiles created by the framework. Tiles loaded from chunk NBT are created by vanilla, see
+ * {@link TileData#registerTile(Class, String)}.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TileFactory
+{
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(TileA.class);
+
+    /** Class of tile created by this factory */
+    public final Class<? extends TileA> tileClass;
+
+    /** Handle to the no-arg constructor of the tile, typed as ()TileA */
+    private final MethodHandle constructor;
+
+    public TileFactory(Class<? extends TileA> tileClass)
+    {
+        this.tileClass = tileClass;
+        try
+        {
+            this.constructor = MethodHandles.publicLookup().findConstructor(tileClass, MethodType.methodType(void.class)).asType(CONSTRUCTOR_TYPE);
+        }
+        catch (NoSuchMethodException | IllegalAccessException e)
+        {
+            throw new IllegalArgumentException("Tile " + tileClass + " needs a public constructor with no parameters", e);
+        }
+    }
+
+    /**
+     * Creates a new tile instance
+     *
+     * @return new tile, never null
+     */
+    public TileA create()
+    {
+        try
+        {
+            return (TileA) constructor.invokeExact();
+        }
+        catch (Throwable t)
+        {
+            throw new RuntimeException("Failed to create tile " + tileClass, t);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TileFactory[" + tileClass.getName() + "]";
+    }
+}
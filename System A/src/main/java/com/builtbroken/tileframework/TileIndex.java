@@ -0,0 +1,118 @@
+package com.builtbroken.tileframework;
+
+import com.builtbroken.tileframework.api.IMod;
+import com.builtbroken.tileframework.processor.TileIndexProcessor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the tile index written at build time by {@link TileIndexProcessor} and registers the
+ * listed tiles. Tile classes are loaded without being initialized, so tiles that never end
+ * up in the world don't run any static code.
+ * <p/>
+ * Tiles listed in the index should not also be registered in {@link TileData#registerTiles()}.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TileIndex
+{
+    private TileIndex()
+    {
+    }
+
+    /**
+     * Loads the index of the module, creates a {@link TileData} for each data class listed and
+     * registers the tile classes to it. The data objects still need to be passed to
+     * {@link TileRegistry#register(List)} to create their blocks.
+     *
+     * @param mod    - mod the tiles belong to, passed to the data constructors
+     * @param module - name of the index, same as the tileframework.module compiler option
+     * @return data objects in the order they first appear in the index
+     * @throws RuntimeException if the index is broken or lists classes that can't be loaded
+     */
+    public static List<TileData> load(IMod mod, String module)
+    {
+        final ClassLoader loader = mod.getClass().getClassLoader();
+        final Map<String, TileData> dataByClass = new LinkedHashMap();
+        try
+        {
+            Enumeration<URL> urls = loader.getResources(TileIndexProcessor.INDEX_FOLDER + module + ".index");
+            while (urls.hasMoreElements())
+            {
+                URL url = urls.nextElement();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), "UTF-8"));
+                try
+                {
+                    String line;
+                    int lineNumber = 0;
+                    while ((line = reader.readLine()) != null)
+                    {
+                        lineNumber++;
+                        line = line.trim();
+                        if (line.isEmpty() || line.startsWith("#"))
+                        {
+                            continue;
+                        }
+                        String[] split = line.split(" ");
+                        if (split.length < 2 || split.length > 3)
+                        {
+                            throw new RuntimeException("Invalid entry in tile index " + url + " line " + lineNumber + ": " + line);
+                        }
+
+                        TileData data = dataByClass.get(split[1]);
+                        if (data == null)
+                        {
+                            data = createData(loader, split[1], mod);
+                            dataByClass.put(split[1], data);
+                        }
+
+                        Class<? extends TileA> tileClass = Class.forName(split[0], false, loader).asSubclass(TileA.class);
+                        if (split.length == 3)
+                        {
+                            data.registerTile(tileClass, split[2]);
+                        }
+                        else
+                        {
+                            data.registerTile(tileClass);
+                        }
+                    }
+                }
+                finally
+                {
+                    reader.close();
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Failed to read tile index " + module, e);
+        }
+        catch (ClassNotFoundException e)
+        {
+            throw new RuntimeException("Tile index " + module + " lists a missing class", e);
+        }
+        return new ArrayList(dataByClass.values());
+    }
+
+    private static TileData createData(ClassLoader loader, String name, IMod mod)
+    {
+        try
+        {
+            Class<? extends TileData> clazz = Class.forName(name, true, loader).asSubclass(TileData.class);
+            return clazz.getConstructor(IMod.class).newInstance(mod);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException("Failed to create tile data " + name + ", it needs a public constructor that takes an IMod", e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.builtbroken.tileframework;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Queue of newly loaded tiles waiting on {@link TileA#initialize()}. Rather than every tile
+ * in a freshly loaded region running its init code in the same tick, the queue is worked
+ * through a little at a time each tick with a time budget.
+ * <p/>
+ * There is one queue per world, each with its own budget so a burst of loading in one dimension
+ * does not hold back the tiles of another. Server queues are run by the {@link TickHandler} at the
+ * start of their world's tick, client queues at the start of the client tick. Queues hold their
+ * tiles, so call {@link #register()} during init to drop them when their world unloads.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TileInitQueue
+{
+    private static final Map<World, TileInitQueue> SERVER = new WeakHashMap();
+    private static final Map<World, TileInitQueue> CLIENT = new WeakHashMap();
+
+    private static boolean registered = false;
+
+    /** Max time in nanoseconds to spend initializing tiles each tick */
+    public static long budgetNanos = 2000000L;
+
+    private final ArrayDeque<TileA> tiles = new ArrayDeque();
+
+    private TileInitQueue()
+    {
+    }
+
+    /**
+     * Gets the queue for the world, creating it if needed
+     *
+     * @param world - world
+     * @return queue
+     */
+    public static TileInitQueue get(World world)
+    {
+        final Map<World, TileInitQueue> queues = world.isRemote ? CLIENT : SERVER;
+        TileInitQueue queue = queues.get(world);
+        if (queue == null)
+        {
+            queue = new TileInitQueue();
+            queues.put(world, queue);
+        }
+        return queue;
+    }
+
+    /**
+     * Gets the queue for the world without creating one
+     *
+     * @param world - world
+     * @return queue, or null if the world has none
+     */
+    public static TileInitQueue getExisting(World world)
+    {
+        return (world.isRemote ? CLIENT : SERVER).get(world);
+    }
+
+    /**
+     * Drops the queue of the world along with the tiles still waiting in it
+     *
+     * @param world - world being unloaded
+     */
+    public static void unload(World world)
+    {
+        final TileInitQueue queue = (world.isRemote ? CLIENT : SERVER).remove(world);
+        if (queue != null)
+        {
+            queue.tiles.clear();
+        }
+    }
+
+    /** Registers the listener that drops queues of unloaded worlds, safe to call more than once */
+    public static synchronized void register()
+    {
+        if (!registered)
+        {
+            registered = true;
+            MinecraftForge.EVENT_BUS.register(new Listener());
+        }
+    }
+
+    /**
+     * Works through the queue of the world, does nothing if the world has none
+     *
+     * @param world  - world
+     * @param budget - max time to spend in nanoseconds
+     * @return number of tiles initialized
+     */
+    public static int process(World world, long budget)
+    {
+        final TileInitQueue queue = getExisting(world);
+        return queue != null ? queue.process(budget) : 0;
+    }
+
+    /**
+     * Works through the queue of each client world, the client has no world tick event to hook into
+     *
+     * @param budget - max time to spend in nanoseconds on each world
+     */
+    public static void processClient(long budget)
+    {
+        if (!CLIENT.isEmpty())
+        {
+            for (TileInitQueue queue : new ArrayList<TileInitQueue>(CLIENT.values()))
+            {
+                queue.process(budget);
+            }
+        }
+    }
+
+    /**
+     * Adds a tile to be initialized on a later tick
+     *
+     * @param tile - tile
+     */
+    public void add(TileA tile)
+    {
+        tiles.addLast(tile);
+    }
+
+    /**
+     * Initializes queued tiles until the time budget runs out. At
+     * least one tile is always initialized so the queue keeps moving.
+     *
+     * @param budget - max time to spend in nanoseconds
+     * @return number of tiles initialized
+     */
+    public int process(long budget)
+    {
+        if (tiles.isEmpty())
+        {
+            return 0;
+        }
+        final long end = System.nanoTime() + budget;
+        int count = 0;
+        TileA tile;
+        while ((tile = tiles.pollFirst()) != null)
+        {
+            //Skip tiles that were removed, unloaded or already initialized by a hook
+            if (tile.isQueuedForInit() && !tile.isInvalid() && tile.world() != null)
+            {
+                tile.initialize();
+                count++;
+                if (System.nanoTime() >= end)
+                {
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    /** Number of tiles waiting */
+    public int size()
+    {
+        return tiles.size();
+    }
+
+    /** Drops the queue of each world as it unloads, the maps only hold worlds weakly but the queued tiles hold them strongly */
+    public static final class Listener
+    {
+        @SubscribeEvent
+        public void onWorldUnload(WorldEvent.Unload event)
+        {
+            unload(event.world);
+        }
+    }
+}
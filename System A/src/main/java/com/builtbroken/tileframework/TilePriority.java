@@ -0,0 +1,25 @@
+package com.builtbroken.tileframework;
+
+/**
+ * How important a tile's update is while the server is behind, see {@link LoadShedder}
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public enum TilePriority
+{
+    /** Always updates every tick, redstone logic and anything players directly wait on */
+    CRITICAL(0),
+    /** Machines and most other tiles, deferred while the server is behind */
+    NORMAL(0),
+    /** Visual only updates, deferred the most */
+    COSMETIC(1);
+
+    /** Extra shed levels added on top of the current {@link LoadShedder} level */
+    final int shedOffset;
+
+    TilePriority(int shedOffset)
+    {
+        this.shedOffset = shedOffset;
+    }
+}
@@ -0,0 +1,180 @@
+package com.builtbroken.tileframework;
+
+import cpw.mods.fml.common.registry.GameRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registers {@link TileData} objects with the game. Registration is split into two steps:
+ * <p/>
+ * Prepare - builds the {@link TileDescriptor} and resolves the {@link TileFactory} of each tile.
+ * Nothing in it touches the game's registries.
+ * <p/>
+ * Commit - creates the {@link BlockTileA}, registers it and calls {@link TileData#registerTiles()}.
+ * Done on the calling thread in the order the tiles were given so block ids stay the same.
+ * <p/>
+ * Time spent on each tile and each mod is logged to help track down slow startups.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TileRegistry
+{
+    private static final Logger logger = LogManager.getLogger("TileFramework");
+
+    private TileRegistry()
+    {
+    }
+
+    /**
+     * Registers all of the tiles. Should be called from the pre-init event of the mod.
+     *
+     * @param tiles - tiles to register, in the order they should be added to the game
+     */
+    public static void register(List<? extends TileData> tiles)
+    {
+        register(tiles, null);
+    }
+
+    /**
+     * Registers all of the tiles, loading the derived values from a {@link RegistrySnapshot}
+     * if it is valid for the current mod set. A new snapshot is saved if anything had to be rebuilt.
+     * Should be called from the pre-init event of the mod.
+     *
+     * @param tiles        - tiles to register, in the order they should be added to the game
+     * @param snapshotFile - file to load and save the snapshot, null to not use one
+     */
+    public static void register(List<? extends TileData> tiles, File snapshotFile)
+    {
+        if (tiles.isEmpty())
+        {
+            return;
+        }
+        final long start = System.nanoTime();
+
+        long modSetHash = 0;
+        RegistrySnapshot snapshot = null;
+        if (snapshotFile != null)
+        {
+            modSetHash = RegistrySnapshot.hashModSet();
+            snapshot = RegistrySnapshot.load(snapshotFile, modSetHash);
+            if (snapshot == null)
+            {
+                logger.info("Tile registry snapshot " + snapshotFile + " is missing or out of date, rebuilding");
+            }
+        }
+
+        final List<TileDescriptor> descriptors = prepare(tiles, snapshot);
+        final long prepareTime = System.nanoTime() - start;
+
+        //Commit in order, grouped by mod for the report
+        final Map<String, long[]> modTimes = new LinkedHashMap();
+        for (TileDescriptor descriptor : descriptors)
+        {
+            final long commitStart = System.nanoTime();
+            commit(descriptor);
+            final long commitTime = System.nanoTime() - commitStart;
+
+            final String mod = descriptor.data.mod.getDomain();
+            long[] times = modTimes.get(mod);
+            if (times == null)
+            {
+                times = new long[3];
+                modTimes.put(mod, times);
+            }
+            times[0] += descriptor.prepareTime;
+            times[1] += commitTime;
+            times[2]++;
+
+            if (logger.isDebugEnabled())
+            {
+                logger.debug(String.format("Registered tile %s:%s, prepare %.3fms, commit %.3fms", mod, descriptor.data.name, descriptor.prepareTime / 1000000.0, commitTime / 1000000.0));
+            }
+        }
+
+        if (logger.isDebugEnabled())
+        {
+            for (Map.Entry<String, long[]> entry : modTimes.entrySet())
+            {
+                long[] times = entry.getValue();
+                logger.debug(String.format("Registered %d tiles for %s, prepare %.3fms, commit %.3fms", times[2], entry.getKey(), times[0] / 1000000.0, times[1] / 1000000.0));
+            }
+        }
+        logger.info(String.format("Registered %d tiles in %.3fms, %.3fms of that preparing", tiles.size(), (System.nanoTime() - start) / 1000000.0, prepareTime / 1000000.0));
+
+        //Only save if something changed since the last snapshot
+        if (snapshotFile != null && (snapshot == null || snapshot.size() != descriptors.size() || hasRebuilt(descriptors)))
+        {
+            try
+            {
+                RegistrySnapshot.save(snapshotFile, modSetHash, descriptors);
+            }
+            catch (IOException e)
+            {
+                logger.warn("Failed to save tile registry snapshot " + snapshotFile, e);
+            }
+        }
+    }
+
+    private static boolean hasRebuilt(List<TileDescriptor> descriptors)
+    {
+        for (TileDescriptor descriptor : descriptors)
+        {
+            if (!descriptor.fromSnapshot)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the descriptors for each tile. Done on the calling thread, the work per tile is
+     * small enough that handing it to other threads costs more than it saves.
+     *
+     * @param tiles    - tiles
+     * @param snapshot - snapshot to load descriptors from, can be null
+     * @return descriptors in the same order as the tiles
+     */
+    static List<TileDescriptor> prepare(List<? extends TileData> tiles, RegistrySnapshot snapshot)
+    {
+        final List<TileDescriptor> descriptors = new ArrayList(tiles.size());
+        for (TileData data : tiles)
+        {
+            final long start = System.nanoTime();
+            TileDescriptor descriptor = snapshot != null ? snapshot.getDescriptor(data) : null;
+            if (descriptor == null)
+            {
+                descriptor = new TileDescriptor(data);
+            }
+            if (data.staticTile != null)
+            {
+                //Resolve the constructor handle ahead of registerTiles()
+                TileData.getFactoryFor(data.staticTile.getClass());
+            }
+            descriptor.prepareTime = System.nanoTime() - start;
+            descriptors.add(descriptor);
+        }
+        return descriptors;
+    }
+
+    /**
+     * Creates and registers the block for the tile. Must be called on the main thread.
+     *
+     * @param descriptor - prepared tile
+     */
+    static void commit(TileDescriptor descriptor)
+    {
+        final TileData data = descriptor.data;
+        BlockTileA block = data.specializeBlock ? BlockSpecializer.create(data, descriptor) : new BlockTileA(data, descriptor);
+        GameRegistry.registerBlock(block, data.itemBlock, data.name);
+        data.registerTiles();
+    }
+}
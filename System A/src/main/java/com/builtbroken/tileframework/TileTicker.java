@@ -0,0 +1,372 @@
+package com.builtbroken.tileframework;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Ticks tiles using {@link TileData#sortedTicking} in position order rather than the order they
+ * were added to the world. Tiles are kept in an array sorted by chunk, chunks in Z-order, then by
+ * Z-order of the position inside the chunk. Tiles next to each other in the world end up next to
+ * each other in the array, so neighbor lookups done while ticking hit chunks and tiles that were
+ * just used.
+ * <p/>
+ * New tiles are held back until the start of the next tick, then sorted and merged into the array
+ * in one pass without resorting the tiles already in it. Removed tiles leave an empty slot that is
+ * cleared out by the same pass.
+ * <p/>
+ * There is one ticker per world. Server tickers are run by the {@link TickHandler} after the world
+ * ticks its own tiles. Each ticker only runs once per world time so it pauses with its world.
+ * Tickers hold their world, so call {@link #register()} during init to drop them when their world unloads.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class TileTicker
+{
+    private static final Map<World, TileTicker> SERVER = new WeakHashMap();
+    private static final Map<World, TileTicker> CLIENT = new WeakHashMap();
+
+    private static boolean registered = false;
+
+    /** Offset to make chunk coords positive, worlds are at most 1.9 million chunks from the center */
+    private static final int CHUNK_OFFSET = 1 << 21;
+
+    private static final Comparator<TileA> KEY_ORDER = new Comparator<TileA>()
+    {
+        @Override
+        public int compare(TileA a, TileA b)
+        {
+            return Long.compare(a.tickerKey, b.tickerKey);
+        }
+    };
+
+    private final World world;
+
+    /** Tiles sorted by {@link #getKey(int, int, int)}, may contain nulls for removed tiles */
+    private TileA[] tiles = new TileA[64];
+    /** Key of each slot in {@link #tiles}, kept for removed tiles so the array stays searchable */
+    private long[] keys = new long[64];
+    /** Used slots of {@link #tiles} */
+    private int size = 0;
+    /** Number of null slots in {@link #tiles} */
+    private int removed = 0;
+
+    /** Tiles added since the last merge */
+    private final ArrayList<TileA> added = new ArrayList();
+
+    /** World time of the last tick, used to only tick once per world tick */
+    private long lastTickTime = Long.MIN_VALUE;
+
+    private TileTicker(World world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * Gets the ticker for the world, creating it if needed
+     *
+     * @param world - world
+     * @return ticker
+     */
+    public static TileTicker get(World world)
+    {
+        final Map<World, TileTicker> tickers = world.isRemote ? CLIENT : SERVER;
+        TileTicker ticker = tickers.get(world);
+        if (ticker == null)
+        {
+            ticker = new TileTicker(world);
+            tickers.put(world, ticker);
+        }
+        return ticker;
+    }
+
+    /**
+     * Gets the ticker for the world without creating one
+     *
+     * @param world - world
+     * @return ticker, or null if the world has none
+     */
+    public static TileTicker getExisting(World world)
+    {
+        return (world.isRemote ? CLIENT : SERVER).get(world);
+    }
+
+    /**
+     * Drops the ticker of the world, along with the tiles in it
+     *
+     * @param world - world being unloaded
+     */
+    public static void unload(World world)
+    {
+        final TileTicker ticker = (world.isRemote ? CLIENT : SERVER).remove(world);
+        if (ticker != null)
+        {
+            Arrays.fill(ticker.tiles, 0, ticker.size, null);
+            ticker.size = 0;
+            ticker.removed = 0;
+            ticker.added.clear();
+        }
+    }
+
+    /** Registers the listener that drops tickers of unloaded worlds, safe to call more than once */
+    public static synchronized void register()
+    {
+        if (!registered)
+        {
+            registered = true;
+            MinecraftForge.EVENT_BUS.register(new Listener());
+        }
+    }
+
+    /**
+     * Ticks the tiles of the world, does nothing if the world has no ticker
+     *
+     * @param world - world
+     */
+    public static void tick(World world)
+    {
+        final TileTicker ticker = getExisting(world);
+        if (ticker != null)
+        {
+            ticker.tick();
+        }
+    }
+
+    /** Ticks all client worlds, the client has no world tick event to hook into */
+    public static void tickClient()
+    {
+        if (!CLIENT.isEmpty())
+        {
+            for (TileTicker ticker : new ArrayList<TileTicker>(CLIENT.values()))
+            {
+                ticker.tick();
+            }
+        }
+    }
+
+    /**
+     * Adds a tile to be ticked, starting next tick
+     *
+     * @param tile - tile, needs to be in the ticker's world
+     */
+    public void add(TileA tile)
+    {
+        tile.tickerKey = getKey(tile.xCoord, tile.yCoord, tile.zCoord);
+        added.add(tile);
+    }
+
+    /**
+     * Removes a tile so it is no longer ticked
+     *
+     * @param tile - tile
+     */
+    public void remove(TileA tile)
+    {
+        if (added.remove(tile))
+        {
+            return;
+        }
+        final long key = tile.tickerKey;
+        int index = binarySearch(key);
+        if (index >= 0)
+        {
+            //Several tiles can share a key if one is replaced, search both ways
+            for (int i = index; i >= 0 && keys[i] == key; i--)
+            {
+                if (tiles[i] == tile)
+                {
+                    tiles[i] = null;
+                    removed++;
+                    return;
+                }
+            }
+            for (int i = index + 1; i < size && keys[i] == key; i++)
+            {
+                if (tiles[i] == tile)
+                {
+                    tiles[i] = null;
+                    removed++;
+                    return;
+                }
+            }
+        }
+    }
+
+    /** Number of tiles being ticked, including ones waiting to be merged in */
+    public int size()
+    {
+        return size - removed + added.size();
+    }
+
+    /** Merges in added tiles, then updates every tile once in order */
+    public void tick()
+    {
+        final long time = world.getTotalWorldTime();
+        if (time == lastTickTime)
+        {
+            return;
+        }
+        lastTickTime = time;
+
+        if (!added.isEmpty() || removed > 0)
+        {
+            merge();
+        }
+
+        //Sorted by chunk, so check each chunk is loaded once rather than each tile
+        long chunkKey = Long.MIN_VALUE;
+        boolean chunkLoaded = false;
+        for (int i = 0; i < size; i++)
+        {
+            final TileA tile = tiles[i];
+            if (tile == null)
+            {
+                continue;
+            }
+            if (tile.isInvalid() || tile.getWorldObj() != world)
+            {
+                tiles[i] = null;
+                removed++;
+                continue;
+            }
+            if ((keys[i] >>> 16) != chunkKey)
+            {
+                chunkKey = keys[i] >>> 16;
+                chunkLoaded = world.getChunkProvider().chunkExists(tile.xCoord >> 4, tile.zCoord >> 4);
+            }
+            if (chunkLoaded)
+            {
+                tile.updateEntity();
+            }
+        }
+    }
+
+    /** Drops removed slots, then sorts the added tiles and merges them in from the back of the array */
+    private void merge()
+    {
+        int live = 0;
+        if (removed > 0)
+        {
+            for (int i = 0; i < size; i++)
+            {
+                if (tiles[i] != null)
+                {
+                    tiles[live] = tiles[i];
+                    keys[live++] = keys[i];
+                }
+            }
+            Arrays.fill(tiles, live, size, null);
+        }
+        else
+        {
+            live = size;
+        }
+
+        final int newSize = live + added.size();
+        if (newSize > tiles.length)
+        {
+            tiles = Arrays.copyOf(tiles, newSize + (newSize >> 1));
+            keys = Arrays.copyOf(keys, tiles.length);
+        }
+
+        Collections.sort(added, KEY_ORDER);
+        int i = live - 1;
+        int a = added.size() - 1;
+        int out = newSize - 1;
+        while (a >= 0)
+        {
+            if (i >= 0 && keys[i] > added.get(a).tickerKey)
+            {
+                tiles[out] = tiles[i];
+                keys[out--] = keys[i--];
+            }
+            else
+            {
+                TileA tile = added.get(a--);
+                tiles[out] = tile;
+                keys[out--] = tile.tickerKey;
+            }
+        }
+
+        size = newSize;
+        removed = 0;
+        added.clear();
+    }
+
+    private int binarySearch(long key)
+    {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key)
+            {
+                low = mid + 1;
+            }
+            else if (keys[mid] > key)
+            {
+                high = mid - 1;
+            }
+            else
+            {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the sort key of a position. The upper bits are the Z-order of the chunk coords,
+     * the lower 16 bits the Z-order of the position inside the chunk.
+     *
+     * @param x - x position
+     * @param y - y position, 0 to 255
+     * @param z - z position
+     * @return key
+     */
+    public static long getKey(int x, int y, int z)
+    {
+        final long chunk = spread((x >> 4) + CHUNK_OFFSET) | (spread((z >> 4) + CHUNK_OFFSET) << 1);
+        //Low four bits of x, z and y interleaved, then the rest of y on top
+        long local = (y & 0xF0) << 8;
+        for (int bit = 0; bit < 4; bit++)
+        {
+            local |= ((x >> bit) & 1) << (3 * bit);
+            local |= ((z >> bit) & 1) << (3 * bit + 1);
+            local |= ((y >> bit) & 1) << (3 * bit + 2);
+        }
+        return chunk << 16 | local;
+    }
+
+    /** Spreads the lower 32 bits of the value out to every other bit */
+    private static long spread(long value)
+    {
+        value &= 0xFFFFFFFFL;
+        value = (value | (value << 16)) & 0x0000FFFF0000FFFFL;
+        value = (value | (value << 8)) & 0x00FF00FF00FF00FFL;
+        value = (value | (value << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        value = (value | (value << 2)) & 0x3333333333333333L;
+        value = (value | (value << 1)) & 0x5555555555555555L;
+        return value;
+    }
+
+    /** Drops the ticker of each world as it unloads, the maps only hold worlds weakly but the tickers hold them strongly */
+    public static final class Listener
+    {
+        @SubscribeEvent
+        public void onWorldUnload(WorldEvent.Unload event)
+        {
+            unload(event.world);
+        }
+    }
+}
@@ -5,10 +5,19 @@ import com.builtbroken.mc.lib.transform.vector.Point;
 import com.builtbroken.mc.lib.transform.vector.Pos;
 import com.builtbroken.mc.prefab.inventory.InventoryUtility;
 import com.builtbroken.tileframework.api.tile.*;
+import com.builtbroken.tileframework.lib.CollisionDispatcher;
+import com.builtbroken.tileframework.lib.DropTable;
+import com.builtbroken.tileframework.lib.ExplosionBatch;
+import com.builtbroken.tileframework.lib.PackedPos;
+import com.builtbroken.tileframework.lib.ParticleBudget;
+import com.builtbroken.tileframework.lib.RainService;
+import com.builtbroken.tileframework.profiler.Hook;
+import com.builtbroken.tileframework.profiler.TileProfiler;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockContainer;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.entity.Entity;
@@ -27,6 +36,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Random;
 
@@ -35,10 +45,15 @@ import java.util.Random;
  *
  * @author Dark
  */
-public class BlockTileD extends BlockContainer
+public class BlockTileD extends BlockContainer implements ExplosionBatch.Handler, CollisionDispatcher.Handler, RainService.Handler
 {
     public final TileData tileData;
 
+    /** Does the static tile take all blocks destroyed by an explosion in one call */
+    private final boolean batchExplosions;
+    /** Are collisions grouped per tick through the {@link CollisionDispatcher} */
+    private final boolean batchCollisions;
+
     public BlockTileD(TileData data)
     {
         super(data.material);
@@ -66,6 +81,36 @@ public class BlockTileD extends BlockContainer
         setHardness(tileData.hardness);
         setResistance(tileData.resistance);
         setStepSound(tileData.stepSound);
+
+        tileData.dynamicResistance |= tileData.staticTile instanceof IExplosiveResistance;
+        batchExplosions = tileData.staticTile instanceof IDestroyedByExplosion && overridesBatchExplosion(tileData.staticTile.getClass());
+        batchCollisions = tileData.collisionCooldown > 0 || tileData.staticTile instanceof ITileCollide && overridesBatchCollide(tileData.staticTile.getClass());
+    }
+
+    /** Checks if the class overrides the default batch hook of {@link ITileCollide} */
+    private static boolean overridesBatchCollide(Class<?> clazz)
+    {
+        try
+        {
+            return clazz.getMethod("onCollide", Collection.class).getDeclaringClass() != ITileCollide.class;
+        }
+        catch (NoSuchMethodException e)
+        {
+            return false;
+        }
+    }
+
+    /** Checks if the class overrides the default batch hook of {@link IDestroyedByExplosion} */
+    private static boolean overridesBatchExplosion(Class<?> clazz)
+    {
+        try
+        {
+            return clazz.getMethod("onDestroyedByExplosion", Explosion.class, long[].class, int.class).getDeclaringClass() != IDestroyedByExplosion.class;
+        }
+        catch (NoSuchMethodException e)
+        {
+            return false;
+        }
     }
 
     @Override
@@ -84,6 +129,11 @@ public class BlockTileD extends BlockContainer
     @Override
     public void fillWithRain(World world, int x, int y, int z)
     {
+        //Tiles get their rain from the rain service instead
+        if (tileData.rainInterval > 0)
+        {
+            return;
+        }
         TileD tile = getTile(world, x, y, z);
         inject(tile, world, x, y, z);
         if (tile instanceof IRainFallible)
@@ -93,6 +143,12 @@ public class BlockTileD extends BlockContainer
         eject();
     }
 
+    @Override
+    public void onRain(World world, TileEntity tile, int rainTicks)
+    {
+        ((IRainFallible) tile).onFillRain(rainTicks);
+    }
+
     @Override
     public float getExplosionResistance(Entity entity)
     {
@@ -102,14 +158,22 @@ public class BlockTileD extends BlockContainer
     @Override
     public float getExplosionResistance(Entity entity, World world, int x, int y, int z, double explosionX, double explosionY, double explosionZ)
     {
+        //Called for every ray step of an explosion, skip the tile lookup when no tile can change it
+        if (!tileData.dynamicResistance)
+        {
+            return tileData.resistance;
+        }
+        final long start = TileProfiler.start();
         TileD tile = getTile(world, x, y, z);
         if (tile instanceof IExplosiveResistance)
         {
             inject(tile, world, x, y, z);
-            float resistance = ((IExplosiveResistance) tile).getExplosionResistance(entity, new Pos(explosionX, explosionY, explosionZ));
+            float resistance = ((IExplosiveResistance) tile).getExplosionResistance(entity, explosionX, explosionY, explosionZ);
             eject();
+            endProfile(Hook.EXPLOSION, start, x, y, z);
             return resistance;
         }
+        endProfile(Hook.EXPLOSION, start, x, y, z);
         return tileData.resistance;
     }
 
@@ -159,6 +223,11 @@ public class BlockTileD extends BlockContainer
     @Override
     public void onBlockDestroyedByExplosion(World world, int x, int y, int z, Explosion ex)
     {
+        if (batchExplosions)
+        {
+            ExplosionBatch.get(world).add(world, ex, this, x, y, z);
+            return;
+        }
         TileD tile = getTile(world, x, y, z);
         if (tile instanceof IDestroyedByExplosion)
         {
@@ -168,6 +237,14 @@ public class BlockTileD extends BlockContainer
         }
     }
 
+    @Override
+    public void onExplosionBatch(World world, Explosion explosion, long[] positions, int count)
+    {
+        inject(tileData.staticTile, world, PackedPos.getX(positions[0]), PackedPos.getY(positions[0]), PackedPos.getZ(positions[0]));
+        ((IDestroyedByExplosion) tileData.staticTile).onDestroyedByExplosion(explosion, positions, count);
+        eject();
+    }
+
     @Override
     public void breakBlock(World world, int x, int y, int z, Block block, int par6)
     {
@@ -197,6 +274,7 @@ public class BlockTileD extends BlockContainer
     @Override
     public void onNeighborBlockChange(World world, int x, int y, int z, Block block)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(world, x, y, z);
         if (tile instanceof INeighborBlock)
         {
@@ -204,6 +282,7 @@ public class BlockTileD extends BlockContainer
             ((INeighborBlock) tile).onNeighborChanged(block);
             eject();
         }
+        endProfile(Hook.NEIGHBOR_CHANGE, start, x, y, z);
     }
 
     @Override
@@ -237,26 +316,31 @@ public class BlockTileD extends BlockContainer
     @Override
     public void onNeighborChange(IBlockAccess world, int x, int y, int z, int tileX, int tileY, int tileZ)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(world, x, y, z);
         if (tile instanceof INeighborBlock)
         {
             inject(tile, world, x, y, z);
-            ((INeighborBlock) tile).onNeighborChanged(new Pos(tileX, tileY, tileZ));
+            ((INeighborBlock) tile).onNeighborChanged(PackedPos.pack(tileX, tileY, tileZ));
             eject();
         }
+        endProfile(Hook.NEIGHBOR_CHANGE, start, x, y, z);
     }
 
     @Override
     public boolean onBlockActivated(World world, int x, int y, int z, EntityPlayer player, int side, float hitX, float hitY, float hitZ)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(world, x, y, z);
         if (tile instanceof IPlayerActivate)
         {
             inject(tile, world, x, y, z);
-            boolean value = ((IPlayerActivate) tile).onPlayerActivated(player, side, new Pos(hitX, hitY, hitZ));
+            boolean value = ((IPlayerActivate) tile).onPlayerActivated(player, side, hitX, hitY, hitZ);
             eject();
+            endProfile(Hook.ACTIVATE, start, x, y, z);
             return value;
         }
+        endProfile(Hook.ACTIVATE, start, x, y, z);
         return false;
     }
 
@@ -272,18 +356,34 @@ public class BlockTileD extends BlockContainer
     @SideOnly(Side.CLIENT)
     public void randomDisplayTick(World world, int x, int y, int z, Random par5Random)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(world, x, y, z);
-        if(tile instanceof IRandomTick)
+        if(tile instanceof IRandomTick && ParticleBudget.CLIENT.tryUse(tileData.particleWeight, getViewDistanceSq(x, y, z), par5Random))
         {
             inject(tile, world, x, y, z);
             ((IRandomTick)tile).randomDisplayTick();
             eject();
         }
+        endProfile(Hook.RENDER, start, x, y, z);
+    }
+
+    /** Distance squared from the camera to the block, used by the {@link ParticleBudget} */
+    @SideOnly(Side.CLIENT)
+    private static double getViewDistanceSq(int x, int y, int z)
+    {
+        final EntityLivingBase view = Minecraft.getMinecraft().renderViewEntity;
+        return view != null ? view.getDistanceSq(x + 0.5, y + 0.5, z + 0.5) : 0;
     }
 
     @Override
     public void onEntityCollidedWithBlock(World world, int x, int y, int z, Entity entity)
     {
+        if (batchCollisions)
+        {
+            CollisionDispatcher.get(world).add(world, this, x, y, z, entity);
+            return;
+        }
+        final long start = TileProfiler.start();
         TileD tile = getTile(world, x, y, z);
         if (tile instanceof ITileCollide)
         {
@@ -291,12 +391,39 @@ public class BlockTileD extends BlockContainer
             ((ITileCollide) tile).onCollide(entity);
             eject();
         }
+        endProfile(Hook.COLLISION, start, x, y, z);
+    }
+
+    @Override
+    public void onCollisionBatch(World world, int x, int y, int z, List<Entity> entities)
+    {
+        //Block may have been removed since the contacts were added
+        if (world.getBlock(x, y, z) != this)
+        {
+            return;
+        }
+        final long start = TileProfiler.start();
+        TileD tile = getTile(world, x, y, z);
+        if (tile instanceof ITileCollide)
+        {
+            inject(tile, world, x, y, z);
+            ((ITileCollide) tile).onCollide(entities);
+            eject();
+        }
+        endProfile(Hook.COLLISION, start, x, y, z);
+    }
+
+    @Override
+    public int getCollisionCooldown()
+    {
+        return tileData.collisionCooldown;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void addCollisionBoxesToList(World world, int x, int y, int z, AxisAlignedBB aabb, List list, Entity entity)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(world, x, y, z);
         if (tile instanceof ITileCollide)
         {
@@ -319,47 +446,57 @@ public class BlockTileD extends BlockContainer
         {
             super.addCollisionBoxesToList(world, x, y, z, aabb, list, entity);
         }
+        endProfile(Hook.COLLISION, start, x, y, z);
     }
 
     @SideOnly(Side.CLIENT)
     public AxisAlignedBB getSelectedBoundingBoxFromPool(World world, int x, int y, int z)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(world, x, y, z);
         if (tile instanceof ITileCollide)
         {
             inject(tile, world, x, y, z);
             AxisAlignedBB value = ((ITileCollide) tile).getSelectBounds().clone().add(tile.x(), tile.y(), tile.z()).toAABB();
             eject();
+            endProfile(Hook.COLLISION, start, x, y, z);
             return value;
         }
+        endProfile(Hook.COLLISION, start, x, y, z);
         return super.getSelectedBoundingBoxFromPool(world, x, y, z);
     }
 
     @Override
     public AxisAlignedBB getCollisionBoundingBoxFromPool(World world, int x, int y, int z)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(world, x, y, z);
         if (tile instanceof ITileCollide)
         {
             inject(tile, world, x, y, z);
             AxisAlignedBB value = ((ITileCollide) tile).getCollisionBounds().clone().add(tile.x(), tile.y(), tile.z()).toAABB();
             eject();
+            endProfile(Hook.COLLISION, start, x, y, z);
             return value;
         }
+        endProfile(Hook.COLLISION, start, x, y, z);
         return super.getCollisionBoundingBoxFromPool(world, x, y, z);
     }
 
     @Override
     public boolean shouldSideBeRendered(IBlockAccess access, int x, int y, int z, int side)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(access, x, y, z);
         if (tile instanceof IBlockRender)
         {
             inject(tile, access, x, y, z);
             boolean value = ((IBlockRender) tileData).shouldSideBeRendered(side);
             eject();
+            endProfile(Hook.RENDER, start, x, y, z);
             return value;
         }
+        endProfile(Hook.RENDER, start, x, y, z);
         return super.shouldSideBeRendered(access, x, y, z, side);
     }
 
@@ -376,6 +513,7 @@ public class BlockTileD extends BlockContainer
     @Override
     public int getLightValue(IBlockAccess access, int x, int y, int z)
     {
+        final long start = TileProfiler.start();
         int value = 0;
         if (access != null)
         {
@@ -384,14 +522,28 @@ public class BlockTileD extends BlockContainer
             value = getTile(access, x, y, z).getLightValue();
             eject();
         }
+        endProfile(Hook.LIGHT, start, x, y, z);
         return value;
     }
 
     @Override
     public boolean hasComparatorInputOverride()
     {
-        //TODO, add support for comparators
-        return false;
+        return tileData.staticTile instanceof IComparatorOutput;
+    }
+
+    @Override
+    public int getComparatorInputOverride(World world, int x, int y, int z, int side)
+    {
+        TileD tile = getTile(world, x, y, z);
+        if (tile instanceof IComparatorOutput)
+        {
+            inject(tile, world, x, y, z);
+            int value = ((IComparatorOutput) tile).getComparatorOutput(side);
+            eject();
+            return value;
+        }
+        return 0;
     }
 
     @Override
@@ -417,14 +569,17 @@ public class BlockTileD extends BlockContainer
     @Override
     public IIcon getIcon(IBlockAccess access, int x, int y, int z, int side)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(access, x, y, z);
         if (tile instanceof ITileTextured)
         {
             inject(tile, access, x, y, z);
             IIcon value = ((ITileTextured) getTile(access, x, y, z)).getIcon(side, access.getBlockMetadata(x, y, z));
             eject();
+            endProfile(Hook.RENDER, start, x, y, z);
             return value;
         }
+        endProfile(Hook.RENDER, start, x, y, z);
         return Blocks.wool.getIcon(side, side);
     }
 
@@ -446,14 +601,17 @@ public class BlockTileD extends BlockContainer
     @Override
     public int colorMultiplier(IBlockAccess access, int x, int y, int z)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(access, x, y, z);
         if (tile instanceof IBlockRender)
         {
             inject(tile, access, x, y, z);
             int value = ((IBlockRender) getTile(access, x, y, z)).getColorMultiplier();
             eject();
+            endProfile(Hook.RENDER, start, x, y, z);
             return value;
         }
+        endProfile(Hook.RENDER, start, x, y, z);
         return super.colorMultiplier(access, x, y, z);
     }
 
@@ -481,14 +639,21 @@ public class BlockTileD extends BlockContainer
     @Override
     public ArrayList<ItemStack> getDrops(World world, int x, int y, int z, int metadata, int fortune)
     {
+        if (tileData.drops != null)
+        {
+            return tileData.drops.getDrops(metadata, fortune, world.rand);
+        }
+        final long start = TileProfiler.start();
         TileD tile = getTile(world, x, y, z);
         if (tile instanceof ITileItem)
         {
             inject(tile, world, x, y, z);
             ArrayList<ItemStack> value = ((ITileItem) tile).getDrops(metadata, fortune);
             eject();
-            return value != null ? value : new ArrayList<ItemStack>();
+            endProfile(Hook.DROPS, start, x, y, z);
+            return value != null ? DropTable.merge(value) : new ArrayList<ItemStack>();
         }
+        endProfile(Hook.DROPS, start, x, y, z);
         return super.getDrops(world, x, y, z, metadata, fortune);
     }
 
@@ -517,28 +682,34 @@ public class BlockTileD extends BlockContainer
     @Override
     public int isProvidingWeakPower(IBlockAccess access, int x, int y, int z, int side)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(access, x, y, z);
         if (tile instanceof IRedstone)
         {
             inject(tile, access, x, y, z);
             int value = ((IRedstone) getTile(access, x, y, z)).getWeakRedstonePower(side);
             eject();
+            endProfile(Hook.REDSTONE, start, x, y, z);
             return value;
         }
+        endProfile(Hook.REDSTONE, start, x, y, z);
         return 0;
     }
 
     @Override
     public int isProvidingStrongPower(IBlockAccess access, int x, int y, int z, int side)
     {
+        final long start = TileProfiler.start();
         TileD tile = getTile(access, x, y, z);
         if (tile instanceof IRedstone)
         {
             inject(tile, access, x, y, z);
             int value = ((IRedstone) getTile(access, x, y, z)).getStrongRedstonePower(side);
             eject();
+            endProfile(Hook.REDSTONE, start, x, y, z);
             return value;
         }
+        endProfile(Hook.REDSTONE, start, x, y, z);
         return 0;
     }
 
@@ -583,23 +754,57 @@ public class BlockTileD extends BlockContainer
     }
 
     public static Point getClickedFace(Byte hitSide, float hitX, float hitY, float hitZ)
+    {
+        return new Point(getClickedFaceX(hitSide, hitX, hitY, hitZ), getClickedFaceY(hitSide, hitX, hitY, hitZ));
+    }
+
+    /**
+     * Gets the x of the spot clicked on the face, same as {@link #getClickedFace(Byte, float, float, float)}
+     * without creating a {@link Point}
+     *
+     * @param hitSide - side clicked
+     * @return x on the face, 0 to 1
+     */
+    public static float getClickedFaceX(int hitSide, float hitX, float hitY, float hitZ)
     {
         switch (hitSide)
         {
             case 0:
-                return new Point(1 - hitX, hitZ);
+            case 2:
+                return 1 - hitX;
             case 1:
-                return new Point(hitX, hitZ);
+            case 3:
+                return hitX;
+            case 4:
+                return hitZ;
+            case 5:
+                return 1 - hitZ;
+            default:
+                return 0.5f;
+        }
+    }
+
+    /**
+     * Gets the y of the spot clicked on the face, same as {@link #getClickedFace(Byte, float, float, float)}
+     * without creating a {@link Point}
+     *
+     * @param hitSide - side clicked
+     * @return y on the face, 0 to 1
+     */
+    public static float getClickedFaceY(int hitSide, float hitX, float hitY, float hitZ)
+    {
+        switch (hitSide)
+        {
+            case 0:
+            case 1:
+                return hitZ;
             case 2:
-                return new Point(1 - hitX, 1 - hitY);
             case 3:
-                return new Point(hitX, 1 - hitY);
             case 4:
-                return new Point(hitZ, 1 - hitY);
             case 5:
-                return new Point(1 - hitZ, 1 - hitY);
+                return 1 - hitY;
             default:
-                return new Point(0.5, 0.5);
+                return 0.5f;
         }
     }
 
@@ -633,6 +838,20 @@ public class BlockTileD extends BlockContainer
         tileData.staticTile.zCoord = 0;
     }
 
+    /**
+     * Records the time of a hook with the {@link TileProfiler}
+     *
+     * @param hook  - hook being timed
+     * @param start - value returned by {@link TileProfiler#start()}
+     */
+    protected final void endProfile(Hook hook, long start, int x, int y, int z)
+    {
+        if (start != 0L)
+        {
+            TileProfiler.end(tileData.getStats(), hook, start, x, y, z);
+        }
+    }
+
     public TileD getTile(IBlockAccess world, int x, int y, int z)
     {
         TileEntity tile = world.getTileEntity(x, y, z);
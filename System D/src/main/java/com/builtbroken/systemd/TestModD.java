@@ -1,9 +1,15 @@
 package com.builtbroken.systemd;
 
+import com.builtbroken.tileframework.lib.CollisionDispatcher;
+import com.builtbroken.tileframework.lib.ExplosionBatch;
+import com.builtbroken.tileframework.lib.ParticleBudget;
+import com.builtbroken.tileframework.lib.RainService;
+import com.builtbroken.tileframework.profiler.CommandTileProfiler;
 import cpw.mods.fml.common.Mod;
 import cpw.mods.fml.common.event.FMLInitializationEvent;
 import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
+import cpw.mods.fml.common.event.FMLServerStartingEvent;
 
 /**
  * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
@@ -16,7 +22,10 @@ public class TestModD
     @Mod.EventHandler
     public void preInit(FMLPreInitializationEvent event)
     {
-
+        ExplosionBatch.register();
+        CollisionDispatcher.register();
+        RainService.register();
+        ParticleBudget.register();
     }
 
     @Mod.EventHandler
@@ -28,6 +37,12 @@ public class TestModD
     @Mod.EventHandler
     public void postInit(FMLPostInitializationEvent event)
     {
+        TileData.lockRegistry();
+    }
 
+    @Mod.EventHandler
+    public void serverStarting(FMLServerStartingEvent event)
+    {
+        event.registerServerCommand(new CommandTileProfiler());
     }
 }
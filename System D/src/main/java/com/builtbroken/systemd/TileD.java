@@ -4,7 +4,12 @@ import com.builtbroken.mc.api.IWorldPosition;
 import com.builtbroken.mc.api.tile.IPlayerUsing;
 import com.builtbroken.mc.core.registry.implement.IRegistryInit;
 import com.builtbroken.mc.prefab.tile.entity.TileEntityBase;
+import com.builtbroken.tileframework.api.tile.IComparatorOutput;
+import com.builtbroken.tileframework.api.tile.IRainFallible;
 import com.builtbroken.tileframework.api.tile.ITile;
+import com.builtbroken.tileframework.lib.RainService;
+import com.builtbroken.tileframework.profiler.Hook;
+import com.builtbroken.tileframework.profiler.TileProfiler;
 import net.minecraft.block.Block;
 import net.minecraft.world.World;
 
@@ -31,6 +36,12 @@ public abstract class TileD extends TileEntityBase implements IWorldPosition, IP
     /** TILE, Current tick count, starts when the tile is placed */
     public long ticks = 0L;
 
+    /** TILE, Cached comparator level, -1 if it has not been calculated yet */
+    private int comparatorOutput = -1;
+
+    /** TILE, Is the tile getting rain from the {@link RainService} */
+    private boolean inRainService = false;
+
     /**
      * Tile Data used to describe how the block
      * functions that wrappers the tile.
@@ -70,6 +81,7 @@ public abstract class TileD extends TileEntityBase implements IWorldPosition, IP
     @Override
     public final void updateEntity()
     {
+        final long start = TileProfiler.start();
         if (ticks == 0)
         {
             firstTick();
@@ -85,6 +97,53 @@ public abstract class TileD extends TileEntityBase implements IWorldPosition, IP
             ticks = 1;
         }
         ticks += 1;
+
+        if (start != 0L)
+        {
+            TileProfiler.end(tileData.getStats(), Hook.UPDATE, start, xCoord, yCoord, zCoord);
+        }
+    }
+
+    /**
+     * TILE, Called when the tile is added to the world. Adds rain
+     * tiles to the {@link RainService} if {@link TileData#rainInterval} is set.
+     */
+    @Override
+    public void validate()
+    {
+        super.validate();
+        if (!isBlock && !inRainService && this instanceof IRainFallible && getTileData().rainInterval > 0 && world() != null && !world().isRemote)
+        {
+            inRainService = true;
+            RainService.get(world()).add(this, (BlockTileD) getTileData().block, getTileData().rainInterval);
+        }
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        removeFromRainService();
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        removeFromRainService();
+    }
+
+    private void removeFromRainService()
+    {
+        if (inRainService)
+        {
+            inRainService = false;
+            final RainService service = world() != null ? RainService.getExisting(world()) : null;
+            if (service != null)
+            {
+                service.remove(this);
+            }
+        }
     }
 
     /**
@@ -134,6 +193,58 @@ public abstract class TileD extends TileEntityBase implements IWorldPosition, IP
     }
 
 
+    /**
+     * Gets the cached comparator level, used by tiles that
+     * implement {@link IComparatorOutput}.
+     *
+     * @param side - side the comparator is reading from
+     * @return level from 0 - 15
+     */
+    public int getComparatorOutput(int side)
+    {
+        if (isBlock)
+        {
+            return Math.max(0, Math.min(15, calculateComparatorOutput()));
+        }
+        if (comparatorOutput < 0)
+        {
+            comparatorOutput = Math.max(0, Math.min(15, calculateComparatorOutput()));
+        }
+        return comparatorOutput;
+    }
+
+    /**
+     * Calculates the comparator level from the current state of the tile. Don't
+     * call this directly, use {@link #updateComparatorOutput()} when the state changes.
+     *
+     * @return level from 0 - 15
+     */
+    protected int calculateComparatorOutput()
+    {
+        return 0;
+    }
+
+    /**
+     * TILE, Call when the state of the tile changes in a way that could change
+     * the comparator level. Neighbor comparators are only notified when
+     * the level actually changes.
+     */
+    protected void updateComparatorOutput()
+    {
+        if (!isBlock && this instanceof IComparatorOutput)
+        {
+            int level = Math.max(0, Math.min(15, calculateComparatorOutput()));
+            if (level != comparatorOutput)
+            {
+                comparatorOutput = level;
+                if (world() != null)
+                {
+                    world().func_147453_f(xi(), yi(), zi(), getBlockType());
+                }
+            }
+        }
+    }
+
     /**
      * Block object that goes to this tile
      */
@@ -3,6 +3,15 @@ package com.builtbroken.systemd;
 import com.builtbroken.mc.lib.render.block.BlockRenderHandler;
 import com.builtbroken.mc.lib.transform.region.Cube;
 import com.builtbroken.tileframework.api.IMod;
+import com.builtbroken.tileframework.api.tile.IExplosiveResistance;
+import com.builtbroken.tileframework.api.tile.IRainFallible;
+import com.builtbroken.tileframework.api.tile.ITileCollide;
+import com.builtbroken.tileframework.lib.CollisionDispatcher;
+import com.builtbroken.tileframework.lib.DropTable;
+import com.builtbroken.tileframework.lib.ParticleBudget;
+import com.builtbroken.tileframework.lib.RainService;
+import com.builtbroken.tileframework.profiler.TileProfiler;
+import com.builtbroken.tileframework.profiler.TileStats;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import net.minecraft.block.Block;
@@ -23,7 +32,24 @@ import java.util.HashMap;
  */
 public abstract class TileData implements ITileEntityProvider
 {
-    protected static final HashMap<Class<? extends TileD>, TileData> classToData = new HashMap();
+    /** Tile classes registered to data objects, only written to during registration */
+    private static final HashMap<Class<? extends TileD>, TileData> classToData = new HashMap();
+
+    /** Cached per class view of {@link #classToData}, used by {@link TileD#TileD()} */
+    private static final ClassValue<TileData> dataLookup = new ClassValue<TileData>()
+    {
+        @Override
+        protected TileData computeValue(Class<?> type)
+        {
+            synchronized (classToData)
+            {
+                return classToData.get(type);
+            }
+        }
+    };
+
+    /** Set once init has finished, no tiles can be registered after this point */
+    private static volatile boolean registryLocked = false;
 
     /** Mod object that created this tile */
     public final IMod mod;
@@ -47,6 +73,25 @@ public abstract class TileData implements ITileEntityProvider
     public float resistance = 1;
     /** Can this tile emmit redstone */
     public boolean canEmmitRedstone = false;
+    /**
+     * Items dropped when broken, worked out by the block without calling the tile. Leave
+     * null for tiles whose drops depend on their state, {@link com.builtbroken.tileframework.api.tile.ITileItem#getDrops(int, int)} is used instead.
+     */
+    public DropTable drops;
+    /** Does any tile class of this data implement {@link IExplosiveResistance}, set as tiles are registered */
+    boolean dynamicResistance = false;
+    /**
+     * Ticks before the same entity is passed to {@link ITileCollide#onCollide(java.util.Collection)} again for
+     * the same block, zero for every tick. Setting this groups collisions through the {@link CollisionDispatcher}.
+     */
+    public int collisionCooldown = 0;
+    /**
+     * Ticks between rain deliveries from the {@link RainService}, zero to use the world's random rain
+     * callback. Tiles get {@link IRainFallible#onFillRain(int)} with the rain since the last delivery.
+     */
+    public int rainInterval = 0;
+    /** Share of the {@link ParticleBudget} each display tick of the tile uses, zero to never be limited */
+    public float particleWeight = 1;
     /** Is the block solid (true) or can it be seen threw (false) */
     public boolean isOpaque = false;
     /** Sound this tile makes when entities step on it */
@@ -75,28 +120,72 @@ public abstract class TileData implements ITileEntityProvider
     public TileD staticTile;
     public int blockColor;
 
+    /** Hook timing of this tile, created on first use */
+    private TileStats stats;
+
     public TileData(IMod mod)
     {
         this.mod = mod;
     }
 
+    /**
+     * Gets the stats used by the {@link TileProfiler} to time this tile's hooks
+     *
+     * @return stats, never null
+     */
+    public TileStats getStats()
+    {
+        if (stats == null)
+        {
+            stats = TileProfiler.getStats(mod.getDomain() + ":" + name);
+        }
+        return stats;
+    }
+
     @Override
     public abstract TileEntity createNewTileEntity(World p_149915_1_, int p_149915_2_);
 
     /**
-     * Called to register {@link TileD} class that will use this data object. IF you
+     * Called to register {@link TileD} class that will use this data object, see {@link #registerTile(Class)}. IF you
      * do not register the class you will need to provide an alt way to get the TileData object.
      * As it is needed in order for several methods in the {@link TileD} class to function.
      */
     public abstract void registerTiles();
 
-    public static TileData getDataFor(Class<? extends TileD> aClass)
+    /**
+     * Registers the {@link TileD} class to this data object. Should only be
+     * called from {@link #registerTiles()}.
+     *
+     * @param clazz - tile class
+     * @throws IllegalStateException if called after the registry has been locked
+     */
+    protected void registerTile(Class<? extends TileD> clazz)
     {
-        if (classToData.containsKey(aClass))
+        synchronized (classToData)
         {
-            return classToData.get(aClass);
+            if (registryLocked)
+            {
+                throw new IllegalStateException("Tiles can not be registered after init, " + clazz);
+            }
+            classToData.put(clazz, this);
         }
-        return null;
+        //Clear anything cached by a lookup done before the class was registered
+        dataLookup.remove(clazz);
+        dynamicResistance |= IExplosiveResistance.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * Called after init to prevent any more tiles from being registered. After
+     * this point the values returned by {@link #getDataFor(Class)} never change.
+     */
+    public static void lockRegistry()
+    {
+        registryLocked = true;
+    }
+
+    public static TileData getDataFor(Class<? extends TileD> aClass)
+    {
+        return dataLookup.get(aClass);
     }
 
     public void registerIcons(IIconRegister iconRegister, boolean blockLayer)
@@ -0,0 +1,170 @@
+package com.builtbroken.systeme;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockContainer;
+import net.minecraft.block.material.Material;
+import net.minecraft.creativetab.CreativeTabs;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Block for a {@link TileE}. Block calls are passed on to the tile's components, either to each
+ * component through the hooks on {@link TileComponent}, or to the component that answers a query,
+ * such as the {@link RedstoneComponent} for redstone power.
+ * <p/>
+ * Whether the block gives redstone power or comparator output is decided when the block is created,
+ * from the components a new tile of its class is made with. Components attached later don't change it.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class BlockTileE extends BlockContainer
+{
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(TileE.class);
+
+    /** Class of tile placed by the block */
+    public final Class<? extends TileE> tileClass;
+
+    /** Handle to the no-arg constructor of the tile, typed as ()TileE */
+    private final MethodHandle constructor;
+
+    /** Does the tile have a {@link RedstoneComponent} */
+    private final boolean providesPower;
+    /** Does the tile have an {@link InventoryComponent} or {@link EnergyComponent} */
+    private final boolean comparatorOutput;
+
+    /**
+     * @param name      - unlocalized name, also used as the texture name
+     * @param material  - block material
+     * @param tileClass - tile placed by the block, needs a public constructor with no parameters
+     * @throws IllegalArgumentException if the tile has no public no-arg constructor
+     */
+    public BlockTileE(String name, Material material, Class<? extends TileE> tileClass)
+    {
+        super(material);
+        this.tileClass = tileClass;
+        try
+        {
+            this.constructor = MethodHandles.publicLookup().findConstructor(tileClass, MethodType.methodType(void.class)).asType(CONSTRUCTOR_TYPE);
+        }
+        catch (NoSuchMethodException | IllegalAccessException e)
+        {
+            throw new IllegalArgumentException("Tile " + tileClass + " needs a public constructor with no parameters", e);
+        }
+        setBlockName(name);
+        setBlockTextureName(name);
+        setCreativeTab(CreativeTabs.tabMisc);
+
+        final TileE prototype = create();
+        this.providesPower = prototype.has(RedstoneComponent.class);
+        this.comparatorOutput = prototype.has(InventoryComponent.class) || prototype.has(EnergyComponent.class);
+    }
+
+    /** Creates a new tile of {@link #tileClass} */
+    private TileE create()
+    {
+        try
+        {
+            return (TileE) constructor.invokeExact();
+        }
+        catch (Throwable t)
+        {
+            throw new RuntimeException("Failed to create tile " + tileClass, t);
+        }
+    }
+
+    /** Gets the tile at the position, or null if it is missing or not a {@link TileE} */
+    private static TileE getTile(IBlockAccess access, int x, int y, int z)
+    {
+        final TileEntity tile = access.getTileEntity(x, y, z);
+        return tile instanceof TileE ? (TileE) tile : null;
+    }
+
+    @Override
+    public TileEntity createNewTileEntity(World world, int meta)
+    {
+        return create();
+    }
+
+    @Override
+    public void onNeighborBlockChange(World world, int x, int y, int z, Block block)
+    {
+        final TileE tile = getTile(world, x, y, z);
+        if (tile != null)
+        {
+            tile.onNeighborChanged(block);
+        }
+    }
+
+    @Override
+    public boolean onBlockActivated(World world, int x, int y, int z, EntityPlayer player, int side, float hitX, float hitY, float hitZ)
+    {
+        final TileE tile = getTile(world, x, y, z);
+        return tile != null && tile.onActivated(player, side, hitX, hitY, hitZ);
+    }
+
+    @Override
+    public void breakBlock(World world, int x, int y, int z, Block block, int meta)
+    {
+        final TileE tile = getTile(world, x, y, z);
+        if (tile != null)
+        {
+            tile.onBroken();
+        }
+        super.breakBlock(world, x, y, z, block, meta);
+    }
+
+    @Override
+    public boolean canProvidePower()
+    {
+        return providesPower;
+    }
+
+    @Override
+    public int isProvidingWeakPower(IBlockAccess access, int x, int y, int z, int side)
+    {
+        final TileE tile = providesPower ? getTile(access, x, y, z) : null;
+        final RedstoneComponent redstone = tile != null ? tile.get(RedstoneComponent.class) : null;
+        return redstone != null ? redstone.getWeakPower(side) : 0;
+    }
+
+    @Override
+    public int isProvidingStrongPower(IBlockAccess access, int x, int y, int z, int side)
+    {
+        final TileE tile = providesPower ? getTile(access, x, y, z) : null;
+        final RedstoneComponent redstone = tile != null ? tile.get(RedstoneComponent.class) : null;
+        return redstone != null ? redstone.getStrongPower(side) : 0;
+    }
+
+    @Override
+    public boolean hasComparatorInputOverride()
+    {
+        return comparatorOutput;
+    }
+
+    @Override
+    public int getComparatorInputOverride(World world, int x, int y, int z, int side)
+    {
+        final TileE tile = getTile(world, x, y, z);
+        if (tile != null)
+        {
+            final InventoryComponent inventory = tile.get(InventoryComponent.class);
+            if (inventory != null)
+            {
+                return inventory.getComparatorOutput();
+            }
+            final EnergyComponent energy = tile.get(EnergyComponent.class);
+            if (energy != null)
+            {
+                return energy.getComparatorOutput();
+            }
+        }
+        return 0;
+    }
+}
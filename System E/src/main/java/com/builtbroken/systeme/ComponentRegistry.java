@@ -0,0 +1,185 @@
+package com.builtbroken.systeme;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Gives each {@link TileComponent} class an id, used by {@link TileE} to store its components in
+ * an array rather than a map. Ids are handed out in the order classes are registered, starting at
+ * zero. Classes need to be registered during init, before any tile using them is created.
+ * <p/>
+ * Each class needs a public constructor with no parameters. Its handle is resolved when the class
+ * is registered, so {@link TileE} can create the components it finds in saved data by name.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public final class ComponentRegistry
+{
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(TileComponent.class);
+
+    /** Component classes by id, only written to during registration */
+    private static final ArrayList<Class<? extends TileComponent>> classes = new ArrayList();
+    /** Handles to the no-arg constructor of each class by id, typed as ()TileComponent */
+    private static final ArrayList<MethodHandle> constructors = new ArrayList();
+    /** Save names by id */
+    private static final ArrayList<String> names = new ArrayList();
+    /** Ids by save name */
+    private static final HashMap<String, Integer> nameToId = new HashMap();
+    /** Does the component of each id tick, grown as classes are registered */
+    private static volatile boolean[] ticking = new boolean[0];
+
+    /** Cached per class view of {@link #classes}, -1 for classes that are not registered */
+    private static final ClassValue<Integer> idLookup = new ClassValue<Integer>()
+    {
+        @Override
+        protected Integer computeValue(Class<?> type)
+        {
+            synchronized (classes)
+            {
+                return classes.indexOf(type);
+            }
+        }
+    };
+
+    /** Set once init has finished, no components can be registered after this point */
+    private static volatile boolean registryLocked = false;
+
+    private ComponentRegistry()
+    {
+    }
+
+    /**
+     * Registers a component class
+     *
+     * @param clazz   - component class
+     * @param name    - unique name, used to save the component
+     * @param ticking - does the component need {@link TileComponent#update()} called each tick
+     * @return id of the component
+     * @throws IllegalStateException    if called after the registry has been locked
+     * @throws IllegalArgumentException if the class or name is already registered, or the class has no public no-arg constructor
+     */
+    public static int register(Class<? extends TileComponent> clazz, String name, boolean ticking)
+    {
+        final MethodHandle constructor;
+        try
+        {
+            constructor = MethodHandles.publicLookup().findConstructor(clazz, MethodType.methodType(void.class)).asType(CONSTRUCTOR_TYPE);
+        }
+        catch (NoSuchMethodException | IllegalAccessException e)
+        {
+            throw new IllegalArgumentException("Component " + clazz + " needs a public constructor with no parameters", e);
+        }
+
+        final int id;
+        synchronized (classes)
+        {
+            if (registryLocked)
+            {
+                throw new IllegalStateException("Components can not be registered after init, " + clazz);
+            }
+            if (classes.contains(clazz) || nameToId.containsKey(name))
+            {
+                throw new IllegalArgumentException("Component " + name + " is already registered, " + clazz);
+            }
+            id = classes.size();
+            classes.add(clazz);
+            constructors.add(constructor);
+            names.add(name);
+            nameToId.put(name, id);
+
+            boolean[] copy = new boolean[id + 1];
+            System.arraycopy(ComponentRegistry.ticking, 0, copy, 0, id);
+            copy[id] = ticking;
+            ComponentRegistry.ticking = copy;
+        }
+        //Clear anything cached by a lookup done before the class was registered
+        idLookup.remove(clazz);
+        return id;
+    }
+
+    /**
+     * Called after init to prevent any more components from being registered. After
+     * this point the ids returned by {@link #getId(Class)} never change.
+     */
+    public static void lockRegistry()
+    {
+        registryLocked = true;
+    }
+
+    /**
+     * Gets the id of a component class
+     *
+     * @param clazz - component class
+     * @return id, or -1 if the class is not registered
+     */
+    public static int getId(Class<? extends TileComponent> clazz)
+    {
+        return idLookup.get(clazz);
+    }
+
+    /**
+     * Gets the id of a component by its save name
+     *
+     * @param name - save name
+     * @return id, or -1 if no component has the name
+     */
+    public static int getId(String name)
+    {
+        synchronized (classes)
+        {
+            Integer id = nameToId.get(name);
+            return id != null ? id : -1;
+        }
+    }
+
+    /**
+     * Creates a new component of the id
+     *
+     * @param id - component id
+     * @return new component, not attached to a tile
+     */
+    public static TileComponent create(int id)
+    {
+        final MethodHandle constructor;
+        synchronized (classes)
+        {
+            constructor = constructors.get(id);
+        }
+        try
+        {
+            return (TileComponent) constructor.invokeExact();
+        }
+        catch (Throwable t)
+        {
+            throw new RuntimeException("Failed to create component " + getName(id), t);
+        }
+    }
+
+    /** Gets the save name of the component id */
+    public static String getName(int id)
+    {
+        synchronized (classes)
+        {
+            return names.get(id);
+        }
+    }
+
+    /** Checks if components of the id need to be ticked */
+    public static boolean isTicking(int id)
+    {
+        return ticking[id];
+    }
+
+    /** Number of registered components, ids are from zero to this minus one */
+    public static int size()
+    {
+        synchronized (classes)
+        {
+            return classes.size();
+        }
+    }
+}
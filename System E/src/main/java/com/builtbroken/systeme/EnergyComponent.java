@@ -0,0 +1,107 @@
+package com.builtbroken.systeme;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Stores energy for the tile. Limits are set by the tile when it attaches the component, only the
+ * stored amount is saved. Changes are sent to clients through the {@link GuiSyncComponent} if the
+ * tile has one.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class EnergyComponent extends TileComponent
+{
+    /** Max energy stored */
+    public int capacity = 10000;
+    /** Max energy taken in per call */
+    public int maxReceive = 1000;
+    /** Max energy given out per call */
+    public int maxExtract = 1000;
+
+    private int energy = 0;
+
+    /**
+     * Adds energy
+     *
+     * @param amount   - energy offered
+     * @param simulate - true to only check how much would be taken
+     * @return energy taken
+     */
+    public int receive(int amount, boolean simulate)
+    {
+        final int received = Math.max(0, Math.min(capacity - energy, Math.min(maxReceive, amount)));
+        if (!simulate && received > 0)
+        {
+            setEnergy(energy + received);
+        }
+        return received;
+    }
+
+    /**
+     * Removes energy
+     *
+     * @param amount   - energy wanted
+     * @param simulate - true to only check how much would be given
+     * @return energy given
+     */
+    public int extract(int amount, boolean simulate)
+    {
+        final int extracted = Math.max(0, Math.min(energy, Math.min(maxExtract, amount)));
+        if (!simulate && extracted > 0)
+        {
+            setEnergy(energy - extracted);
+        }
+        return extracted;
+    }
+
+    public int getEnergy()
+    {
+        return energy;
+    }
+
+    /** Sets the energy stored, limited to 0 - {@link #capacity} */
+    public void setEnergy(int energy)
+    {
+        final int value = Math.max(0, Math.min(capacity, energy));
+        if (value != this.energy)
+        {
+            this.energy = value;
+            if (getHost() != null)
+            {
+                getHost().markDirty();
+            }
+            GuiSyncComponent.markChanged(getHost());
+        }
+    }
+
+    /** Comparator level for the energy stored, 0 when empty and 15 when full */
+    public int getComparatorOutput()
+    {
+        return energy <= 0 || capacity <= 0 ? 0 : 1 + (int) (energy * 14L / capacity);
+    }
+
+    @Override
+    protected void load(NBTTagCompound nbt)
+    {
+        energy = Math.max(0, Math.min(capacity, nbt.getInteger("energy")));
+    }
+
+    @Override
+    protected void save(NBTTagCompound nbt)
+    {
+        nbt.setInteger("energy", energy);
+    }
+
+    @Override
+    protected void writeDescription(NBTTagCompound nbt)
+    {
+        nbt.setInteger("energy", energy);
+    }
+
+    @Override
+    protected void readDescription(NBTTagCompound nbt)
+    {
+        energy = nbt.getInteger("energy");
+    }
+}
@@ -0,0 +1,60 @@
+package com.builtbroken.systeme;
+
+import net.minecraft.world.World;
+
+/**
+ * Keeps client side GUIs of the tile up to date. Other components call {@link #markChanged(TileE)}
+ * when a value shown to players changes, and at most once every {@link #interval} ticks the tile's
+ * description packet is sent again, see {@link TileComponent#writeDescription(net.minecraft.nbt.NBTTagCompound)}.
+ * Changes made between sends are grouped into the one packet.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class GuiSyncComponent extends TileComponent
+{
+    /** Min ticks between packets */
+    public int interval = 10;
+
+    /** Has a value changed since the last packet */
+    private boolean changed = false;
+    /** World time of the last packet */
+    private long lastSync = Long.MIN_VALUE;
+
+    /**
+     * Marks the tile's client values as changed, does nothing if the tile has no sync component
+     *
+     * @param host - tile, can be null
+     */
+    public static void markChanged(TileE host)
+    {
+        final GuiSyncComponent sync = host != null ? host.get(GuiSyncComponent.class) : null;
+        if (sync != null)
+        {
+            sync.changed = true;
+        }
+    }
+
+    /** Has a value changed that has not been sent yet */
+    public boolean isChanged()
+    {
+        return changed;
+    }
+
+    @Override
+    protected void update()
+    {
+        final World world = world();
+        if (changed && world != null && !world.isRemote)
+        {
+            final long time = world.getTotalWorldTime();
+            if (time - lastSync >= interval || time < lastSync)
+            {
+                changed = false;
+                lastSync = time;
+                final TileE host = getHost();
+                world.markBlockForUpdate(host.xCoord, host.yCoord, host.zCoord);
+            }
+        }
+    }
+}
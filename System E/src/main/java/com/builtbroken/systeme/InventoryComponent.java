@@ -0,0 +1,209 @@
+package com.builtbroken.systeme;
+
+import com.builtbroken.mc.lib.transform.vector.Pos;
+import com.builtbroken.mc.prefab.inventory.InventoryUtility;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.Container;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.World;
+
+/**
+ * Item storage for the tile. Implements {@link IInventory} so containers and GUIs can use it
+ * directly. The number of slots is saved with the items, so a component created on load ends up
+ * the same size it was saved with. Contents are dropped when the block is broken.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class InventoryComponent extends TileComponent implements IInventory
+{
+    /** Name shown on the GUI */
+    public String inventoryName = "container.tmod_SystemE.inventory";
+    /** Max stack size of each slot */
+    public int stackLimit = 64;
+
+    private ItemStack[] slots;
+
+    public InventoryComponent()
+    {
+        this(9);
+    }
+
+    /**
+     * @param size - number of slots
+     */
+    public InventoryComponent(int size)
+    {
+        this.slots = new ItemStack[size];
+    }
+
+    /** Comparator level for how full the inventory is, same as vanilla containers */
+    public int getComparatorOutput()
+    {
+        return Container.calcRedstoneFromInventory(this);
+    }
+
+    @Override
+    public int getSizeInventory()
+    {
+        return slots.length;
+    }
+
+    @Override
+    public ItemStack getStackInSlot(int slot)
+    {
+        return slot >= 0 && slot < slots.length ? slots[slot] : null;
+    }
+
+    @Override
+    public ItemStack decrStackSize(int slot, int amount)
+    {
+        final ItemStack stack = getStackInSlot(slot);
+        if (stack == null || amount <= 0)
+        {
+            return null;
+        }
+        if (stack.stackSize <= amount)
+        {
+            slots[slot] = null;
+            markDirty();
+            return stack;
+        }
+        final ItemStack split = stack.splitStack(amount);
+        markDirty();
+        return split;
+    }
+
+    @Override
+    public ItemStack getStackInSlotOnClosing(int slot)
+    {
+        return null;
+    }
+
+    @Override
+    public void setInventorySlotContents(int slot, ItemStack stack)
+    {
+        if (slot >= 0 && slot < slots.length)
+        {
+            if (stack != null && stack.stackSize > getInventoryStackLimit())
+            {
+                stack.stackSize = getInventoryStackLimit();
+            }
+            slots[slot] = stack;
+            markDirty();
+        }
+    }
+
+    @Override
+    public String getInventoryName()
+    {
+        return inventoryName;
+    }
+
+    @Override
+    public boolean hasCustomInventoryName()
+    {
+        return false;
+    }
+
+    @Override
+    public int getInventoryStackLimit()
+    {
+        return stackLimit;
+    }
+
+    @Override
+    public void markDirty()
+    {
+        if (getHost() != null)
+        {
+            getHost().markDirty();
+        }
+        GuiSyncComponent.markChanged(getHost());
+    }
+
+    @Override
+    public boolean isUseableByPlayer(EntityPlayer player)
+    {
+        final TileE host = getHost();
+        return host != null && !host.isInvalid() && player.getDistanceSq(host.xCoord + 0.5, host.yCoord + 0.5, host.zCoord + 0.5) <= 64;
+    }
+
+    @Override
+    public void openInventory()
+    {
+    }
+
+    @Override
+    public void closeInventory()
+    {
+    }
+
+    @Override
+    public boolean isItemValidForSlot(int slot, ItemStack stack)
+    {
+        return true;
+    }
+
+    @Override
+    protected void onBroken()
+    {
+        final World world = world();
+        if (world != null && !world.isRemote)
+        {
+            final TileE host = getHost();
+            for (int i = 0; i < slots.length; i++)
+            {
+                if (slots[i] != null)
+                {
+                    InventoryUtility.dropItemStack(world, new Pos(host.xCoord, host.yCoord, host.zCoord), slots[i]);
+                    slots[i] = null;
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void load(NBTTagCompound nbt)
+    {
+        if (nbt.hasKey("size"))
+        {
+            slots = new ItemStack[nbt.getInteger("size")];
+        }
+        else
+        {
+            slots = new ItemStack[slots.length];
+        }
+        final NBTTagList items = nbt.getTagList("items", 10);
+        for (int i = 0; i < items.tagCount(); i++)
+        {
+            NBTTagCompound tag = items.getCompoundTagAt(i);
+            int slot = tag.getShort("slot");
+            if (slot >= 0 && slot < slots.length)
+            {
+                slots[slot] = ItemStack.loadItemStackFromNBT(tag);
+            }
+        }
+    }
+
+    @Override
+    protected void save(NBTTagCompound nbt)
+    {
+        nbt.setInteger("size", slots.length);
+        final NBTTagList items = new NBTTagList();
+        for (int i = 0; i < slots.length; i++)
+        {
+            if (slots[i] != null)
+            {
+                NBTTagCompound tag = new NBTTagCompound();
+                tag.setShort("slot", (short) i);
+                slots[i].writeToNBT(tag);
+                items.appendTag(tag);
+            }
+        }
+        nbt.setTag("items", items);
+    }
+}
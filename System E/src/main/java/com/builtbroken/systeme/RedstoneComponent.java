@@ -0,0 +1,98 @@
+package com.builtbroken.systeme;
+
+import net.minecraft.block.Block;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+
+/**
+ * Redstone input and output of the tile. The input is read from the world when a neighbor changes.
+ * The output is given to every side by {@link BlockTileE}, as strong power if {@link #strong} is set.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class RedstoneComponent extends TileComponent
+{
+    /** Is the output given as strong power, powering blocks through the block next to it */
+    public boolean strong = false;
+
+    /** Power given out, 0 - 15 */
+    private int output = 0;
+    /** Strongest power going into the block, 0 - 15 */
+    private int input = 0;
+
+    /** Strongest power going into the block as of the last neighbor change */
+    public int getInput()
+    {
+        return input;
+    }
+
+    /** Is any power going into the block */
+    public boolean isPowered()
+    {
+        return input > 0;
+    }
+
+    public int getOutput()
+    {
+        return output;
+    }
+
+    /**
+     * Sets the power given out and updates the neighbors if it changed
+     *
+     * @param power - power, limited to 0 - 15
+     */
+    public void setOutput(int power)
+    {
+        final int value = Math.max(0, Math.min(15, power));
+        if (value != output)
+        {
+            output = value;
+            final TileE host = getHost();
+            final World world = world();
+            if (world != null && !world.isRemote)
+            {
+                host.markDirty();
+                world.notifyBlocksOfNeighborChange(host.xCoord, host.yCoord, host.zCoord, host.getBlockType());
+            }
+        }
+    }
+
+    /** Weak power given to the side */
+    public int getWeakPower(int side)
+    {
+        return output;
+    }
+
+    /** Strong power given to the side */
+    public int getStrongPower(int side)
+    {
+        return strong ? output : 0;
+    }
+
+    @Override
+    protected void onNeighborChanged(Block block)
+    {
+        final World world = world();
+        if (world != null && !world.isRemote)
+        {
+            final TileE host = getHost();
+            input = world.getStrongestIndirectPower(host.xCoord, host.yCoord, host.zCoord);
+        }
+    }
+
+    @Override
+    protected void load(NBTTagCompound nbt)
+    {
+        output = nbt.getByte("output");
+        input = nbt.getByte("input");
+    }
+
+    @Override
+    protected void save(NBTTagCompound nbt)
+    {
+        nbt.setByte("output", (byte) output);
+        nbt.setByte("input", (byte) input);
+    }
+}
@@ -4,6 +4,8 @@ import cpw.mods.fml.common.Mod;
 import cpw.mods.fml.common.event.FMLInitializationEvent;
 import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
+import cpw.mods.fml.common.registry.GameRegistry;
+import net.minecraft.block.material.Material;
 
 /**
  * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
@@ -16,7 +18,14 @@ public class TestModE
     @Mod.EventHandler
     public void preInit(FMLPreInitializationEvent event)
     {
-
+        //Components first, blocks create a tile to see which components it has
+        ComponentRegistry.register(InventoryComponent.class, "inventory", false);
+        ComponentRegistry.register(RedstoneComponent.class, "redstone", false);
+        ComponentRegistry.register(EnergyComponent.class, "energy", false);
+        ComponentRegistry.register(GuiSyncComponent.class, "guiSync", true);
+
+        GameRegistry.registerBlock(new BlockTileE("tmod_SystemE:machine", Material.iron, TileMachineE.class), "machine");
+        GameRegistry.registerTileEntity(TileMachineE.class, "tmod_SystemE:machine");
     }
 
     @Mod.EventHandler
@@ -28,6 +37,6 @@ public class TestModE
     @Mod.EventHandler
     public void postInit(FMLPostInitializationEvent event)
     {
-
+        ComponentRegistry.lockRegistry();
     }
 }
@@ -0,0 +1,155 @@
+package com.builtbroken.systeme;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+
+/**
+ * Single piece of behaviour attached to a {@link TileE}, such as an inventory, energy storage or
+ * redstone handling. Each component gets its own lifecycle calls from the tile it is attached to.
+ * Only components registered as ticking, see {@link ComponentRegistry#register(Class, String, boolean)},
+ * have {@link #update()} called.
+ * <p/>
+ * Block calls for the tile are passed on by {@link BlockTileE}, see {@link #onNeighborChanged(Block)}
+ * and the other block hooks.
+ * <p/>
+ * A tile can only have one component of each class. Components need a public constructor with no
+ * parameters, used to create them again when the tile is loaded.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public abstract class TileComponent
+{
+    /** Registry id of the component's class */
+    public final int id;
+
+    /** Tile the component is attached to, null when not attached */
+    private TileE host;
+
+    /**
+     * @throws IllegalStateException if the class was not registered with the {@link ComponentRegistry}
+     */
+    public TileComponent()
+    {
+        this.id = ComponentRegistry.getId(getClass());
+        if (id < 0)
+        {
+            throw new IllegalStateException("Component class needs to be registered before use, " + getClass());
+        }
+    }
+
+    /** Tile the component is attached to, null when not attached */
+    public TileE getHost()
+    {
+        return host;
+    }
+
+    /** World of the tile the component is attached to */
+    public World world()
+    {
+        return host != null ? host.getWorldObj() : null;
+    }
+
+    /** Is the component registered as ticking */
+    public final boolean isTicking()
+    {
+        return ComponentRegistry.isTicking(id);
+    }
+
+    final void setHost(TileE host)
+    {
+        this.host = host;
+    }
+
+    /** Called after the component is attached to its tile */
+    protected void onAttach()
+    {
+    }
+
+    /** Called before the component is removed from its tile */
+    protected void onDetach()
+    {
+    }
+
+    /** Called when the tile is added to the world, or its chunk loads */
+    protected void onValidate()
+    {
+    }
+
+    /** Called when the tile is removed from the world */
+    protected void onInvalidate()
+    {
+    }
+
+    /** Called when the tile's chunk unloads */
+    protected void onChunkUnload()
+    {
+    }
+
+    /** Called each tick, only if the component is registered as ticking */
+    protected void update()
+    {
+    }
+
+    /**
+     * BLOCK, Called when a neighbor block changes
+     *
+     * @param block - block that changed
+     */
+    protected void onNeighborChanged(Block block)
+    {
+    }
+
+    /**
+     * BLOCK, Called when a player right clicks the block
+     *
+     * @return true if the click was used, stops it being passed to later components
+     */
+    protected boolean onActivated(EntityPlayer player, int side, float hitX, float hitY, float hitZ)
+    {
+        return false;
+    }
+
+    /** BLOCK, Called when the block is broken, before the tile is removed */
+    protected void onBroken()
+    {
+    }
+
+    /**
+     * Loads the component
+     *
+     * @param nbt - tag saved by {@link #save(NBTTagCompound)}
+     */
+    protected void load(NBTTagCompound nbt)
+    {
+    }
+
+    /**
+     * Saves the component. The component is created again on load even if the tag is left empty.
+     *
+     * @param nbt - tag to write to
+     */
+    protected void save(NBTTagCompound nbt)
+    {
+    }
+
+    /**
+     * Writes the values clients need, sent with the tile's description packet
+     *
+     * @param nbt - tag to write to, nothing is sent for the component if left empty
+     */
+    protected void writeDescription(NBTTagCompound nbt)
+    {
+    }
+
+    /**
+     * Reads the values written by {@link #writeDescription(NBTTagCompound)}, client side only
+     *
+     * @param nbt - tag sent by the server
+     */
+    protected void readDescription(NBTTagCompound nbt)
+    {
+    }
+}
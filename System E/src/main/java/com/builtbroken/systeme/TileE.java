@@ -0,0 +1,334 @@
+package com.builtbroken.systeme;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.Packet;
+import net.minecraft.network.play.server.S35PacketUpdateTileEntity;
+import net.minecraft.tileentity.TileEntity;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Tile made up of {@link TileComponent}s rather than one large base class. The tile itself only
+ * holds its components and passes lifecycle calls on to them, so it only pays for the behaviour it
+ * actually uses.
+ * <p/>
+ * Components are stored in an array indexed by their {@link ComponentRegistry} id. Ticking
+ * components are also kept in a second array that {@link #updateEntity()} walks, so components
+ * that don't tick cost nothing per tick. A tile without ticking components is never added to the
+ * world's tick list.
+ * <p/>
+ * Components should be attached in the tile's constructor. The world checks {@link #canUpdate()}
+ * when the tile is added, so a ticking component attached afterwards won't be ticked if the tile
+ * had none before.
+ * <p/>
+ * Every attached component is saved by its registry name, and components missing from the tile when
+ * it loads are created through the {@link ComponentRegistry}. Components attached after the tile was
+ * created are kept over a save and load.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class TileE extends TileEntity
+{
+    private static final Logger logger = LogManager.getLogger("TileFramework");
+
+    private static final TileComponent[] EMPTY = new TileComponent[0];
+
+    /** Components by registry id, only as long as the highest id attached */
+    private TileComponent[] components = EMPTY;
+    /** Ticking components in the order attached, replaced rather than changed so updates can safely attach or detach */
+    private TileComponent[] ticking = EMPTY;
+
+    /**
+     * Attaches a component to the tile
+     *
+     * @param component - component, can not already be attached to a tile
+     * @return the component
+     * @throws IllegalArgumentException if the component is attached or the tile already has one of its class
+     */
+    public <C extends TileComponent> C attach(C component)
+    {
+        final int id = component.id;
+        if (component.getHost() != null)
+        {
+            throw new IllegalArgumentException("Component is already attached to " + component.getHost());
+        }
+        if (id < components.length && components[id] != null)
+        {
+            throw new IllegalArgumentException("Tile already has a " + ComponentRegistry.getName(id) + " component, " + this);
+        }
+        if (id >= components.length)
+        {
+            components = Arrays.copyOf(components, id + 1);
+        }
+        components[id] = component;
+        if (component.isTicking())
+        {
+            ticking = Arrays.copyOf(ticking, ticking.length + 1);
+            ticking[ticking.length - 1] = component;
+        }
+        component.setHost(this);
+        component.onAttach();
+        return component;
+    }
+
+    /**
+     * Removes the component of the class from the tile
+     *
+     * @param clazz - component class
+     * @return removed component, or null if the tile had none
+     */
+    public <C extends TileComponent> C detach(Class<C> clazz)
+    {
+        final C component = get(clazz);
+        if (component != null)
+        {
+            component.onDetach();
+            component.setHost(null);
+            components[component.id] = null;
+            if (component.isTicking())
+            {
+                TileComponent[] copy = new TileComponent[ticking.length - 1];
+                int i = 0;
+                for (TileComponent other : ticking)
+                {
+                    if (other != component)
+                    {
+                        copy[i++] = other;
+                    }
+                }
+                ticking = copy;
+            }
+        }
+        return component;
+    }
+
+    /**
+     * Gets the component of the class
+     *
+     * @param clazz - component class
+     * @return component, or null if the tile has none
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends TileComponent> C get(Class<C> clazz)
+    {
+        final int id = ComponentRegistry.getId(clazz);
+        return id >= 0 && id < components.length ? (C) components[id] : null;
+    }
+
+    /**
+     * Gets the component of the registry id
+     *
+     * @param id - component id, see {@link ComponentRegistry#getId(Class)}
+     * @return component, or null if the tile has none
+     */
+    public TileComponent get(int id)
+    {
+        return id >= 0 && id < components.length ? components[id] : null;
+    }
+
+    /** Checks if the tile has a component of the class */
+    public boolean has(Class<? extends TileComponent> clazz)
+    {
+        return get(clazz) != null;
+    }
+
+    /**
+     * Gets the component saved under the name, creating and attaching it if the tile has none
+     *
+     * @param name - save name of the component
+     * @return component, or null if no component is registered with the name
+     */
+    private TileComponent getOrCreate(String name)
+    {
+        final int id = ComponentRegistry.getId(name);
+        if (id < 0)
+        {
+            return null;
+        }
+        final TileComponent component = get(id);
+        return component != null ? component : attach(ComponentRegistry.create(id));
+    }
+
+    /** Number of attached components that tick */
+    public int getTickingCount()
+    {
+        return ticking.length;
+    }
+
+    @Override
+    public boolean canUpdate()
+    {
+        return ticking.length > 0;
+    }
+
+    @Override
+    public void updateEntity()
+    {
+        final TileComponent[] ticking = this.ticking;
+        for (TileComponent component : ticking)
+        {
+            component.update();
+        }
+    }
+
+    @Override
+    public void validate()
+    {
+        super.validate();
+        for (TileComponent component : components)
+        {
+            if (component != null)
+            {
+                component.onValidate();
+            }
+        }
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        for (TileComponent component : components)
+        {
+            if (component != null)
+            {
+                component.onInvalidate();
+            }
+        }
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        for (TileComponent component : components)
+        {
+            if (component != null)
+            {
+                component.onChunkUnload();
+            }
+        }
+    }
+
+    /** BLOCK, Passes a neighbor change on to each component */
+    public void onNeighborChanged(Block block)
+    {
+        for (TileComponent component : components)
+        {
+            if (component != null)
+            {
+                component.onNeighborChanged(block);
+            }
+        }
+    }
+
+    /**
+     * BLOCK, Passes a right click on to each component until one uses it
+     *
+     * @return true if a component used the click
+     */
+    public boolean onActivated(EntityPlayer player, int side, float hitX, float hitY, float hitZ)
+    {
+        for (TileComponent component : components)
+        {
+            if (component != null && component.onActivated(player, side, hitX, hitY, hitZ))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** BLOCK, Tells each component the block was broken */
+    public void onBroken()
+    {
+        for (TileComponent component : components)
+        {
+            if (component != null)
+            {
+                component.onBroken();
+            }
+        }
+    }
+
+    @Override
+    public void readFromNBT(NBTTagCompound nbt)
+    {
+        super.readFromNBT(nbt);
+        final NBTTagCompound saved = nbt.getCompoundTag("components");
+        for (Object key : saved.func_150296_c())
+        {
+            final String name = (String) key;
+            final TileComponent component = getOrCreate(name);
+            if (component != null)
+            {
+                component.load(saved.getCompoundTag(name));
+            }
+            else
+            {
+                logger.warn("Dropping unknown component " + name + " from tile at " + xCoord + "," + yCoord + "," + zCoord);
+            }
+        }
+    }
+
+    @Override
+    public void writeToNBT(NBTTagCompound nbt)
+    {
+        super.writeToNBT(nbt);
+        final NBTTagCompound saved = new NBTTagCompound();
+        for (TileComponent component : components)
+        {
+            if (component != null)
+            {
+                //Saved even when empty so the component is created again on load
+                NBTTagCompound tag = new NBTTagCompound();
+                component.save(tag);
+                saved.setTag(ComponentRegistry.getName(component.id), tag);
+            }
+        }
+        if (!saved.hasNoTags())
+        {
+            nbt.setTag("components", saved);
+        }
+    }
+
+    @Override
+    public Packet getDescriptionPacket()
+    {
+        final NBTTagCompound description = new NBTTagCompound();
+        for (TileComponent component : components)
+        {
+            if (component != null)
+            {
+                NBTTagCompound tag = new NBTTagCompound();
+                component.writeDescription(tag);
+                if (!tag.hasNoTags())
+                {
+                    description.setTag(ComponentRegistry.getName(component.id), tag);
+                }
+            }
+        }
+        return description.hasNoTags() ? null : new S35PacketUpdateTileEntity(xCoord, yCoord, zCoord, 0, description);
+    }
+
+    @Override
+    public void onDataPacket(NetworkManager net, S35PacketUpdateTileEntity packet)
+    {
+        final NBTTagCompound description = packet.func_148857_g();
+        for (Object key : description.func_150296_c())
+        {
+            final String name = (String) key;
+            final TileComponent component = getOrCreate(name);
+            if (component != null)
+            {
+                component.readDescription(description.getCompoundTag(name));
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.builtbroken.systeme;
+
+/**
+ * Test tile made only of components. Stores items and energy, reads and gives out redstone, and
+ * sends its energy to clients for GUIs.
+ *
+ * @see <a href="https://github.com/BuiltBrokenModding/VoltzEngine/blob/development/license.md">License</a> for what you can and can't do with the code.
+ * Created by Dark(DarkGuardsman, Robert) on 10/19/2026.
+ */
+public class TileMachineE extends TileE
+{
+    public TileMachineE()
+    {
+        attach(new InventoryComponent(9));
+        attach(new EnergyComponent());
+        attach(new RedstoneComponent());
+        attach(new GuiSyncComponent());
+    }
+}